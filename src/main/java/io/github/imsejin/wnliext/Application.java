@@ -24,20 +24,30 @@
 
 package io.github.imsejin.wnliext;
 
-import io.github.imsejin.common.util.PathnameUtils;
+import io.github.imsejin.common.util.DateTimeUtils;
+import io.github.imsejin.wnliext.common.ApplicationOptions;
+import io.github.imsejin.wnliext.common.OutputMode;
+import io.github.imsejin.wnliext.common.instrument.Instrumentation;
+import io.github.imsejin.wnliext.console.ConsoleOutput;
 import io.github.imsejin.wnliext.console.ConsolePrinter;
+import io.github.imsejin.wnliext.console.ProgressRenderer;
+import io.github.imsejin.wnliext.console.Terminal;
 import io.github.imsejin.wnliext.file.model.Webtoon;
 
 import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static io.github.imsejin.wnliext.common.ApplicationMetadata.APPLICATION_NAME;
+import static io.github.imsejin.wnliext.common.ApplicationMetadata.VERSION;
 import static io.github.imsejin.wnliext.excel.ExcelExecutor.create;
 import static io.github.imsejin.wnliext.excel.ExcelExecutor.update;
 import static io.github.imsejin.wnliext.file.FileFinder.findLatestWebtoonList;
 import static io.github.imsejin.wnliext.file.FileFinder.findWebtoons;
+import static io.github.imsejin.wnliext.file.FileFinder.watchWebtoons;
 
 public final class Application {
 
@@ -45,42 +55,85 @@ public final class Application {
     }
 
     public static void main(String[] args) {
-        String pathname;
-        if (args == null || args.length == 0) {
-            pathname = PathnameUtils.getCurrentPathname();
-        } else {
-            String arg = args[0];
-            if (!Files.isDirectory(Paths.get(arg))) {
-                throw new RuntimeException(String.format("Invalid pathname: '%s'", arg));
-            }
+        ApplicationOptions options = ApplicationOptions.parse(args);
+        PrintStream out = ConsoleOutput.install();
 
-            pathname = arg;
+        if (options.isWatch()) {
+            // Keeps the webtoons in memory and writes a new list whenever they are changed.
+            watchWebtoons(options, it -> export(it, options));
+            return;
         }
 
-        List<Webtoon> webtoons = findWebtoons(pathname);
-        File listFile = findLatestWebtoonList(pathname);
+        // Renders progress of scanning and parsing, which needs cursor control.
+        if (options.getOutput() != OutputMode.QUIET && Terminal.isAnsi()) ProgressRenderer.enable(out);
+        long startTime = System.nanoTime();
+        List<Webtoon> webtoons = findWebtoons(options);
+        long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        ProgressRenderer.disable();
 
         // Prints console logs.
-        webtoons.forEach(System.out::println);
-        System.out.printf("%nTotal %,d webtoon%s%n", webtoons.size(), webtoons.isEmpty() ? "" : "s");
+        OutputMode mode = options.getOutput();
+        if (mode == OutputMode.NORMAL || mode == OutputMode.VERBOSE) ConsoleOutput.printWebtoons(out, webtoons);
+        if (mode == OutputMode.SUMMARY || mode == OutputMode.VERBOSE) ConsoleOutput.printSummary(out, webtoons);
+        if (mode != OutputMode.QUIET) {
+            out.printf("Found in %,d ms (parallelism: %d)%n", elapsedTime, options.getParallelism());
+        }
+        out.flush();
+
+        export(webtoons, options);
+
+        // Fix the bug that `ERROR: JDWP Unable to get JNI 1.2 environment`
+        System.exit(0);
+    }
+
+    /**
+     * Creates a new webtoon list or updates the latest webtoon list.
+     */
+    private static void export(List<Webtoon> webtoons, ApplicationOptions options) {
+        String pathname = options.getPathname();
+        File listFile = findLatestWebtoonList(pathname);
 
         try {
             if (listFile == null) {
-                create(webtoons, pathname);
+                create(webtoons, pathname, options);
             } else {
-                update(webtoons, pathname, listFile);
+                update(webtoons, pathname, listFile, options);
             }
 
-            ConsolePrinter.printLogo();
-            System.out.printf("%s is successfully done.%n", APPLICATION_NAME);
+            if (options.getOutput() != OutputMode.QUIET) {
+                ConsolePrinter.printLogo();
+                System.out.printf("%s is successfully done.%n", APPLICATION_NAME);
+            }
         } catch (Exception e) {
             ConsolePrinter.printLogo();
             System.out.printf("%s has failed.%n", APPLICATION_NAME);
             e.printStackTrace();
         }
 
-        // Fix the bug that `ERROR: JDWP Unable to get JNI 1.2 environment`
-        System.exit(0);
+        report(webtoons, options);
+        System.out.flush();
+    }
+
+    /**
+     * Prints breakdown of the stages and writes it as a run report if specified.
+     */
+    private static void report(List<Webtoon> webtoons, ApplicationOptions options) {
+        OutputMode mode = options.getOutput();
+        if (mode == OutputMode.NORMAL || mode == OutputMode.VERBOSE) System.out.printf("%n%s", Instrumentation.format());
+
+        if (options.getReport() != null) {
+            Map<String, Object> properties = new LinkedHashMap<>();
+            properties.put("version", VERSION);
+            properties.put("finishedAt", DateTimeUtils.now());
+            properties.put("webtoons", webtoons.size());
+            properties.put("parallelism", options.getParallelism());
+            properties.put("cache", options.isCache());
+            properties.put("streaming", options.isStreaming());
+            Instrumentation.writeReport(new File(options.getReport()), properties);
+        }
+
+        // Stages of the next run in watch mode are recorded from scratch.
+        Instrumentation.reset();
     }
 
 }
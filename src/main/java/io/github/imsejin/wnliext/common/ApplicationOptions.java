@@ -0,0 +1,244 @@
+package io.github.imsejin.wnliext.common;
+
+import io.github.imsejin.common.util.PathnameUtils;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Application options
+ *
+ * <p> Options parsed from command line arguments.
+ *
+ * <pre>
+ * java -jar webtoon-list-extractor.jar [webtoon files path...] [--parallelism=N]
+ *                                      [--depth=N | --recursive] [--no-follow-links] [--exclude=GLOB...]
+ *                                      [--streaming [--row-window=N] [--compress-temp-files]] [--sheet-per-platform]
+ *                                      [--statistics]
+ *                                      [--no-cache] [--watch [--quiet-period=MS]] [--report=FILE]
+ *                                      [--quiet | --summary | --verbose]
+ * </pre>
+ */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+public final class ApplicationOptions {
+
+    /**
+     * Path of webtoon files, where webtoon list is written.
+     */
+    private final String pathname;
+
+    /**
+     * Paths of webtoon files, which include {@link #pathname}.
+     * If it is empty, only {@link #pathname} is scanned.
+     */
+    @Builder.Default
+    private final List<String> roots = Collections.emptyList();
+
+    /**
+     * Maximum depth of directories to scan, the files in the roots are at depth 1.
+     */
+    @Builder.Default
+    private final int depth = 1;
+
+    /**
+     * Whether to follow symbolic links while scanning.
+     */
+    @Builder.Default
+    private final boolean followLinks = true;
+
+    /**
+     * Glob patterns of files and directories excluded from scanning.
+     */
+    @Builder.Default
+    private final List<String> excludes = Collections.emptyList();
+
+    /**
+     * Number of threads that convert files into webtoons.
+     * If it is 1, files are converted sequentially.
+     */
+    @Builder.Default
+    private final int parallelism = 1;
+
+    /**
+     * Whether to cache webtoons converted from files,
+     * so that unchanged files are not parsed again in the next run.
+     */
+    @Builder.Default
+    private final boolean cache = true;
+
+    /**
+     * Whether to write a workbook with streaming,
+     * which keeps only a window of rows in memory.
+     */
+    private final boolean streaming;
+
+    /**
+     * Number of rows kept in memory while writing a workbook with streaming.
+     */
+    @Builder.Default
+    private final int rowWindow = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+
+    /**
+     * Whether to compress temporary files
+     * which are flushed while writing a workbook with streaming.
+     */
+    private final boolean compressTempFiles;
+
+    /**
+     * Whether to add a sheet for each platform after the sheet of all webtoons,
+     * which are filled in parallel while writing a workbook with streaming.
+     */
+    private final boolean sheetPerPlatform;
+
+    /**
+     * Whether to add columns of statistics read from webtoon files,
+     * which are the number of episodes and images, uncompressed size and compression ratio.
+     * Only zip files have statistics, so the columns of the other archives are marked as not available.
+     */
+    private final boolean statistics;
+
+    /**
+     * Whether to keep running and update webtoon list whenever webtoon files are changed.
+     */
+    private final boolean watch;
+
+    /**
+     * Milliseconds to wait for no more changes before updating webtoon list in watch mode.
+     */
+    @Builder.Default
+    private final long quietPeriod = 2000;
+
+    /**
+     * Path of JSON file where the run report is written.
+     * If it is null, the report is only printed.
+     */
+    private final String report;
+
+    /**
+     * How much is printed to console.
+     */
+    @Builder.Default
+    private final OutputMode output = OutputMode.NORMAL;
+
+    public static ApplicationOptions parse(String[] args) {
+        ApplicationOptionsBuilder builder = builder().pathname(PathnameUtils.getCurrentPathname());
+        if (args == null) return builder.build();
+
+        List<String> roots = new ArrayList<>();
+        List<String> excludes = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                if (!Files.isDirectory(Paths.get(arg))) {
+                    throw new IllegalArgumentException(String.format("Invalid pathname: '%s'", arg));
+                }
+
+                // The first path is where webtoon list is written.
+                if (roots.isEmpty()) builder.pathname(arg);
+                roots.add(arg);
+                continue;
+            }
+
+            String[] option = arg.substring(2).split("=", 2);
+            String name = option[0];
+            String value = option.length == 2 ? option[1] : null;
+
+            switch (name) {
+                case "parallelism":
+                    builder.parallelism(toPositiveInt(name, value));
+                    break;
+                case "depth":
+                    builder.depth(toPositiveInt(name, value));
+                    break;
+                case "recursive":
+                    builder.depth(Integer.MAX_VALUE);
+                    break;
+                case "no-follow-links":
+                    builder.followLinks(false);
+                    break;
+                case "exclude":
+                    if (value == null || value.isEmpty()) {
+                        throw new IllegalArgumentException(String.format("Option '%s' must have a glob pattern", name));
+                    }
+                    excludes.add(value);
+                    break;
+                case "no-cache":
+                    builder.cache(false);
+                    break;
+                case "streaming":
+                    builder.streaming(true);
+                    break;
+                case "row-window":
+                    builder.rowWindow(toPositiveInt(name, value));
+                    break;
+                case "compress-temp-files":
+                    builder.compressTempFiles(true);
+                    break;
+                case "sheet-per-platform":
+                    builder.sheetPerPlatform(true);
+                    break;
+                case "statistics":
+                    builder.statistics(true);
+                    break;
+                case "watch":
+                    builder.watch(true);
+                    break;
+                case "quiet-period":
+                    builder.quietPeriod(toPositiveInt(name, value));
+                    break;
+                case "report":
+                    if (value == null || value.isEmpty()) {
+                        throw new IllegalArgumentException(String.format("Option '%s' must have a file path", name));
+                    }
+                    builder.report(value);
+                    break;
+                case "quiet":
+                    builder.output(OutputMode.QUIET);
+                    break;
+                case "summary":
+                    builder.output(OutputMode.SUMMARY);
+                    break;
+                case "verbose":
+                    builder.output(OutputMode.VERBOSE);
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown option: '%s'", arg));
+            }
+        }
+
+        return builder.roots(roots).excludes(excludes).build();
+    }
+
+    /**
+     * Returns paths of webtoon files to scan.
+     */
+    public List<String> getRoots() {
+        return this.roots.isEmpty() ? Collections.singletonList(this.pathname) : this.roots;
+    }
+
+    /**
+     * Returns whether to scan only files in {@link #pathname} without subdirectories.
+     */
+    public boolean isSingleDirectory() {
+        return this.depth == 1 && getRoots().size() == 1;
+    }
+
+    private static int toPositiveInt(String name, String value) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) return number;
+        } catch (NumberFormatException ignored) {
+        }
+
+        throw new IllegalArgumentException(String.format("Option '%s' must be a positive integer: '%s'", name, value));
+    }
+
+}
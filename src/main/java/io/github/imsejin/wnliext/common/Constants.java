@@ -11,6 +11,7 @@ public final class Constants {
     public static final class console {
         public static final int PERCENT_MULTIPLES = 100;
         public static final int PROGRESS_BAR_LENGTH = 50;
+        public static final int PROGRESS_FRAMES_PER_SECOND = 10;
 
         private console() {
         }
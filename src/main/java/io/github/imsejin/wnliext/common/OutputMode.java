@@ -0,0 +1,30 @@
+package io.github.imsejin.wnliext.common;
+
+/**
+ * Output mode
+ *
+ * <p> How much is printed to console while running.
+ */
+public enum OutputMode {
+
+    /**
+     * Prints nothing but failures.
+     */
+    QUIET,
+
+    /**
+     * Prints counts of webtoons per platform instead of each webtoon.
+     */
+    SUMMARY,
+
+    /**
+     * Prints each webtoon and breakdown of the stages.
+     */
+    NORMAL,
+
+    /**
+     * Prints each webtoon, counts of webtoons per platform and breakdown of the stages.
+     */
+    VERBOSE
+
+}
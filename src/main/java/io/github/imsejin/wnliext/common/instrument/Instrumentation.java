@@ -0,0 +1,212 @@
+package io.github.imsejin.wnliext.common.instrument;
+
+import lombok.SneakyThrows;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Instrumentation
+ *
+ * <p> Records wall time, number of items, throughput, allocated bytes and speedup
+ * of each stage in the pipeline, such as listing, parsing and writing.
+ * Speedup of parallel stages is estimated from CPU time of the process,
+ * so that sequential baseline doesn't need to be measured.
+ *
+ * <p> Allocated bytes are the sum of all live threads, which are approximate
+ * when the other threads run or threads die while the stage runs.
+ */
+public final class Instrumentation {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private static final com.sun.management.OperatingSystemMXBean OS = operatingSystemMXBean();
+
+    private static final List<StageRecord> RECORDS = Collections.synchronizedList(new ArrayList<>());
+
+    private Instrumentation() {
+    }
+
+    /**
+     * Starts a stage, which is recorded when it is closed.
+     *
+     * @param name name of stage
+     * @return running stage
+     */
+    public static Stage start(String name) {
+        return new Stage(name);
+    }
+
+    /**
+     * Returns records of the stages in the order they finished.
+     */
+    public static List<StageRecord> getRecords() {
+        synchronized (RECORDS) {
+            return new ArrayList<>(RECORDS);
+        }
+    }
+
+    /**
+     * Removes all the records.
+     */
+    public static void reset() {
+        RECORDS.clear();
+    }
+
+    /**
+     * Returns breakdown of the stages as a table.
+     *
+     * <pre>
+     * Stage        Time(ms)        Items      Items/s   Allocated(KB)  Speedup
+     * list               12        1,002       83,500           1,024     1.0x
+     * parse               3        1,000      333,333             512     3.6x
+     * </pre>
+     */
+    public static String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-10s %10s %12s %12s %15s %8s%n",
+                "Stage", "Time(ms)", "Items", "Items/s", "Allocated(KB)", "Speedup"));
+
+        long totalNanos = 0;
+        for (StageRecord record : getRecords()) {
+            totalNanos += record.getElapsedNanos();
+            sb.append(String.format("%-10s %,10d %,12d %,12.0f %15s %8s%n", record.getName(), record.getElapsedMillis(),
+                    record.getCount(), record.getThroughput(),
+                    record.getAllocatedBytes() < 0 ? "-" : String.format("%,d", record.getAllocatedBytes() / 1024),
+                    Double.isNaN(record.getSpeedup()) ? "-" : String.format("%.1fx", record.getSpeedup())));
+        }
+        sb.append(String.format("%-10s %,10d%n", "total", totalNanos / 1_000_000));
+
+        return sb.toString();
+    }
+
+    /**
+     * Writes the records and properties of the run as JSON.
+     *
+     * <pre>
+     * {
+     *   "properties": {"parallelism": 4},
+     *   "stages": [
+     *     {"name": "list", "elapsedNanos": 12000000, "count": 1002, "throughput": 83500.0, "allocatedBytes": 1048576,
+     *      "cpuNanos": 12000000, "speedup": 1.0}
+     *   ]
+     * }
+     * </pre>
+     *
+     * @param file       report file
+     * @param properties properties of the run, whose values are written as string unless they are number or boolean
+     */
+    @SneakyThrows
+    public static void writeReport(File file, Map<String, ?> properties) {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            writer.println("{");
+
+            writer.print("  \"properties\": {");
+            String delimiter = "";
+            for (Map.Entry<String, ?> entry : properties.entrySet()) {
+                writer.printf("%s%s: %s", delimiter, quote(entry.getKey()), toJson(entry.getValue()));
+                delimiter = ", ";
+            }
+            writer.println("},");
+
+            writer.println("  \"stages\": [");
+            List<StageRecord> records = getRecords();
+            for (int i = 0; i < records.size(); i++) {
+                StageRecord record = records.get(i);
+                writer.printf("    {\"name\": %s, \"elapsedNanos\": %d, \"count\": %d, \"throughput\": %.1f, \"allocatedBytes\": %d, "
+                                + "\"cpuNanos\": %d, \"speedup\": %s}%s%n",
+                        quote(record.getName()), record.getElapsedNanos(), record.getCount(),
+                        record.getThroughput(), record.getAllocatedBytes(), record.getCpuNanos(),
+                        Double.isNaN(record.getSpeedup()) ? "null" : String.format(Locale.ROOT, "%.2f", record.getSpeedup()),
+                        i < records.size() - 1 ? "," : "");
+            }
+            writer.println("  ]");
+
+            writer.println("}");
+        }
+    }
+
+    static void record(StageRecord record) {
+        RECORDS.add(record);
+    }
+
+    /**
+     * Returns bytes allocated by all live threads, or -1 if it is not supported.
+     */
+    static long allocatedBytes() {
+        if (THREADS == null) return -1;
+
+        long sum = 0;
+        for (long bytes : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+            // Thread which died after its id is taken has -1.
+            if (bytes > 0) sum += bytes;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns CPU time of the process, which includes threads that died, or -1 if it is not supported.
+     */
+    static long cpuNanos() {
+        return OS == null ? -1 : OS.getProcessCpuTime();
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) return null;
+        if (!threads.isThreadAllocatedMemoryEnabled()) threads.setThreadAllocatedMemoryEnabled(true);
+
+        return threads;
+    }
+
+    private static com.sun.management.OperatingSystemMXBean operatingSystemMXBean() {
+        java.lang.management.OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+        return bean instanceof com.sun.management.OperatingSystemMXBean ? (com.sun.management.OperatingSystemMXBean) bean : null;
+    }
+
+    private static String toJson(Object value) {
+        if (value instanceof Number || value instanceof Boolean) return value.toString();
+        return value == null ? "null" : quote(value.toString());
+    }
+
+    private static String quote(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : s.toCharArray()) {
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+            }
+        }
+
+        return sb.append('"').toString();
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.github.imsejin.wnliext.common.instrument;
+
+/**
+ * Stage
+ *
+ * <p> Running stage of the pipeline, which is recorded when it is closed.
+ *
+ * <pre>
+ * try (Stage stage = Instrumentation.start("parse")) {
+ *     List&lt;Webtoon&gt; webtoons = parse(files);
+ *     stage.count(webtoons.size());
+ * }
+ * </pre>
+ */
+public final class Stage implements AutoCloseable {
+
+    private final String name;
+
+    private final long startNanos;
+
+    private final long startAllocatedBytes;
+
+    private final long startCpuNanos;
+
+    private long count;
+
+    Stage(String name) {
+        this.name = name;
+        this.startAllocatedBytes = Instrumentation.allocatedBytes();
+        this.startCpuNanos = Instrumentation.cpuNanos();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Sets number of items processed in this stage.
+     */
+    public void count(long count) {
+        this.count = count;
+    }
+
+    @Override
+    public void close() {
+        long elapsedNanos = System.nanoTime() - this.startNanos;
+        long cpuNanos = this.startCpuNanos < 0 ? -1 : Instrumentation.cpuNanos() - this.startCpuNanos;
+        long allocatedBytes = this.startAllocatedBytes < 0 ? -1 : Instrumentation.allocatedBytes() - this.startAllocatedBytes;
+
+        Instrumentation.record(new StageRecord(this.name, elapsedNanos, this.count, allocatedBytes, cpuNanos));
+    }
+
+}
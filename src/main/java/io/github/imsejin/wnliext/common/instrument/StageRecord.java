@@ -0,0 +1,68 @@
+package io.github.imsejin.wnliext.common.instrument;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stage record
+ *
+ * <p> Measurement of a stage in the pipeline.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class StageRecord {
+
+    private final String name;
+
+    /**
+     * Wall time in nanoseconds.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Number of items which are processed in the stage.
+     */
+    private final long count;
+
+    /**
+     * Bytes allocated by all threads while the stage runs,
+     * or -1 if it is not supported by the JVM.
+     */
+    private final long allocatedBytes;
+
+    /**
+     * CPU time of the process while the stage runs, or -1 if it is not supported by the JVM.
+     */
+    private final long cpuNanos;
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos);
+    }
+
+    /**
+     * Returns number of items processed per second.
+     */
+    public double getThroughput() {
+        if (this.elapsedNanos == 0) return 0;
+        return this.count * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+    }
+
+    /**
+     * Returns CPU time over wall time, which is the average number of busy cores.
+     *
+     * <p> For a CPU-bound stage, this estimates the speedup over running it on one thread
+     * without running it twice. It is about 1 for a sequential stage, and doesn't exceed
+     * the number of cores however many threads run. Time of JVM threads such as GC is included.
+     *
+     * @return speedup or NaN if CPU time is not supported
+     */
+    public double getSpeedup() {
+        if (this.cpuNanos < 0 || this.elapsedNanos == 0) return Double.NaN;
+        return (double) this.cpuNanos / this.elapsedNanos;
+    }
+
+}
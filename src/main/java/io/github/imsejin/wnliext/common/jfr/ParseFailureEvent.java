@@ -0,0 +1,28 @@
+package io.github.imsejin.wnliext.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Parse failure event
+ *
+ * <p> Failure of converting a file into webtoon, whose name doesn't follow the format.
+ */
+@Name("io.github.imsejin.wnliext.ParseFailure")
+@Label("Parse Failure")
+@Category({"Webtoon List Extractor", "File"})
+@Description("Failure of converting a file into webtoon")
+@StackTrace(false)
+public class ParseFailureEvent extends Event {
+
+    @Label("Filename")
+    public String filename;
+
+    @Label("Message")
+    public String message;
+
+}
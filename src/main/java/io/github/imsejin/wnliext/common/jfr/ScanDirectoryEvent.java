@@ -0,0 +1,26 @@
+package io.github.imsejin.wnliext.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Scan directory event
+ *
+ * <p> Listing of entries in a directory.
+ */
+@Name("io.github.imsejin.wnliext.ScanDirectory")
+@Label("Scan Directory")
+@Category({"Webtoon List Extractor", "File"})
+@Description("Listing of entries in a directory")
+public class ScanDirectoryEvent extends Event {
+
+    @Label("Directory")
+    public String directory;
+
+    @Label("Entries")
+    public int entries;
+
+}
@@ -0,0 +1,34 @@
+package io.github.imsejin.wnliext.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Workbook read event
+ *
+ * <p> Reading of the previous webtoon list or its snapshot.
+ */
+@Name("io.github.imsejin.wnliext.WorkbookRead")
+@Label("Workbook Read")
+@Category({"Webtoon List Extractor", "Workbook"})
+@Description("Reading of the previous webtoon list or its snapshot")
+public class WorkbookReadEvent extends Event {
+
+    @Label("File")
+    public String file;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("From Snapshot")
+    public boolean snapshot;
+
+}
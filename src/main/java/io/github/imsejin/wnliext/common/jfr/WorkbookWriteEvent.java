@@ -0,0 +1,34 @@
+package io.github.imsejin.wnliext.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Workbook write event
+ *
+ * <p> Writing of a new webtoon list.
+ */
+@Name("io.github.imsejin.wnliext.WorkbookWrite")
+@Label("Workbook Write")
+@Category({"Webtoon List Extractor", "Workbook"})
+@Description("Writing of a new webtoon list")
+public class WorkbookWriteEvent extends Event {
+
+    @Label("File")
+    public String file;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Streaming")
+    public boolean streaming;
+
+}
@@ -0,0 +1,274 @@
+package io.github.imsejin.wnliext.common.util;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+import static java.util.Comparator.comparingLong;
+
+/**
+ * Parallel zip extractor
+ *
+ * <p> Extracts a zip archive with random access to its entries through the central directory,
+ * instead of reading it from start to end. Entries are inflated from their data following
+ * the local headers on multiple threads, after all the directories are created,
+ * with a large buffer and an inflater for each thread. The archive is parsed only once,
+ * and if names are duplicated, the last entry of them is extracted.
+ * Stored entries are transferred from the archive as they are, without copying into the heap.
+ * CRC of every entry is checked, so that corrupted data is rejected.
+ *
+ * <p> Names are decoded in CP949 unless they are flagged as UTF-8,
+ * and entries which would be extracted outside of the destination are rejected.
+ */
+final class ParallelZipExtractor {
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private static final int INPUT_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+    private static final ThreadLocal<ByteBuffer> INPUT = ThreadLocal.withInitial(() -> ByteBuffer.allocate(INPUT_SIZE));
+
+    /**
+     * Inflater without zlib header, which is reset for each entry.
+     */
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    /**
+     * Extra byte which inflater without zlib header may need to finish.
+     */
+    private static final byte[] PADDING = new byte[1];
+
+    private ParallelZipExtractor() {
+    }
+
+    /**
+     * Extracts all entries of the archive into the destination.
+     *
+     * @param zipFile     zip archive
+     * @param dest        destination directory, which is created if it doesn't exist
+     * @param parallelism number of threads inflating entries
+     * @return extracted files, except directories
+     * @throws ZipException if any entry is outside of the destination
+     */
+    static List<Path> extract(File zipFile, Path dest, int parallelism) throws IOException {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+
+        try (FileChannel channel = FileChannel.open(zipFile.toPath(), StandardOpenOption.READ)) {
+            ZipCentralDirectory directory = new ZipCentralDirectory().load(channel);
+            Path root = dest.toAbsolutePath().normalize();
+
+            // Validates all entries before anything is extracted.
+            // The last of entries with the same name wins, so that a file isn't written by two threads.
+            Map<Path, Integer> files = new LinkedHashMap<>();
+            Set<Path> directories = new LinkedHashSet<>();
+            directories.add(root);
+            for (int i = 0; i < directory.size(); i++) {
+                String name = directory.name(i);
+                Path target = root.resolve(name).normalize();
+                if (!target.startsWith(root) || target.equals(root)) {
+                    throw new ZipException("Entry is outside of the destination: " + name);
+                }
+
+                if (directory.isDirectory(i)) {
+                    directories.add(target);
+                } else {
+                    directories.add(target.getParent());
+                    files.put(target, i);
+                }
+            }
+            List<Path> targets = new ArrayList<>(files.keySet());
+            List<Integer> indexes = new ArrayList<>(files.values());
+
+            for (Path it : directories) {
+                Files.createDirectories(it);
+            }
+
+            List<Callable<Void>> tasks = new ArrayList<>(indexes.size());
+            for (int i = 0; i < indexes.size(); i++) {
+                int index = indexes.get(i);
+                Path target = targets.get(i);
+                tasks.add(() -> {
+                    if (directory.method(index) == ZipEntry.STORED) {
+                        transfer(channel, directory, index, target);
+                    } else {
+                        inflate(channel, directory, index, target);
+                    }
+                    return null;
+                });
+            }
+
+            if (parallelism == 1 || tasks.size() < 2) {
+                for (Callable<Void> task : tasks) {
+                    call(task);
+                }
+            } else {
+                // Larger entries first, so that threads finish at nearly the same time.
+                List<Integer> order = new ArrayList<>(tasks.size());
+                for (int i = 0; i < tasks.size(); i++) order.add(i);
+                order.sort(Collections.reverseOrder(comparingLong(i -> directory.compressedSize(indexes.get(i)))));
+
+                List<Callable<Void>> sorted = new ArrayList<>(tasks.size());
+                for (int i : order) sorted.add(tasks.get(i));
+                invokeAll(sorted, Math.min(parallelism, tasks.size()));
+            }
+
+            return targets;
+        }
+    }
+
+    /**
+     * Inflates data of the deflated entry, which is read from the archive at its offset,
+     * checking its CRC.
+     */
+    private static void inflate(FileChannel channel, ZipCentralDirectory directory, int index, Path target)
+            throws IOException {
+        String name = directory.name(index);
+        int method = directory.method(index);
+        if (method != ZipEntry.DEFLATED) {
+            throw new ZipException("Unsupported compression method " + method + " of entry " + name);
+        }
+
+        long position = directory.dataOffset(channel, index);
+        long remaining = directory.compressedSize(index);
+        ByteBuffer input = INPUT.get();
+        byte[] buffer = BUFFER.get();
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        CRC32 crc = new CRC32();
+
+        try (OutputStream out = Files.newOutputStream(target)) {
+            boolean padded = false;
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    if (remaining > 0) {
+                        input.clear().limit((int) Math.min(input.capacity(), remaining));
+                        int length = channel.read(input, position);
+                        if (length < 0) throw new EOFException("Unexpected end of entry: " + name);
+                        position += length;
+                        remaining -= length;
+                        inflater.setInput(input.array(), 0, length);
+                    } else if (!padded) {
+                        padded = true;
+                        inflater.setInput(PADDING);
+                    } else {
+                        throw new EOFException("Unexpected end of entry: " + name);
+                    }
+                }
+
+                int length;
+                try {
+                    length = inflater.inflate(buffer);
+                } catch (DataFormatException e) {
+                    throw new ZipException("Invalid deflated data of entry " + name + ": " + e.getMessage());
+                }
+                if (length == 0 && inflater.needsDictionary()) {
+                    throw new ZipException("Invalid deflated data of entry " + name + ": needs dictionary");
+                }
+                crc.update(buffer, 0, length);
+                out.write(buffer, 0, length);
+            }
+        }
+
+        checkCrc(name, directory.crc(index), crc.getValue());
+    }
+
+    /**
+     * Copies data of the stored entry from the archive without copying into the heap.
+     *
+     * <p> Its CRC is checked by reading the copied file back in chunks,
+     * which are likely to be in the page cache yet.
+     */
+    private static void transfer(FileChannel channel, ZipCentralDirectory directory, int index, Path target)
+            throws IOException {
+        long offset = directory.dataOffset(channel, index);
+        long size = directory.compressedSize(index);
+        CRC32 crc = new CRC32();
+
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (long transferred = 0; transferred < size; ) {
+                long length = channel.transferTo(offset + transferred, size - transferred, out);
+                if (length == 0) throw new EOFException("Unexpected end of entry: " + directory.name(index));
+                transferred += length;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(BUFFER.get());
+            for (long position = 0; position < size; ) {
+                buffer.clear();
+                int length = out.read(buffer, position);
+                if (length < 0) throw new EOFException("Unexpected end of entry: " + directory.name(index));
+                crc.update(buffer.array(), 0, length);
+                position += length;
+            }
+        }
+
+        checkCrc(directory.name(index), directory.crc(index), crc.getValue());
+    }
+
+    private static void checkCrc(String name, long expected, long actual) throws ZipException {
+        if (expected != actual) {
+            throw new ZipException(String.format("Invalid CRC of entry %s: expected 0x%08X but was 0x%08X",
+                    name, expected, actual));
+        }
+    }
+
+    private static void call(Callable<Void> task) throws IOException {
+        try {
+            task.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void invokeAll(List<Callable<Void>> tasks, int parallelism) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "zip-inflater");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while inflating");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,544 @@
+package io.github.imsejin.wnliext.common.util;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Parallel zip writer
+ *
+ * <p> Writes a zip archive whose entries are deflated on multiple threads, like pigz.
+ * Each file is split into blocks, which are deflated independently with the last 32 KiB
+ * of the previous block as dictionary, so that compression ratio hardly drops.
+ * Deflated blocks are written in order, and CRC of each file is computed while it is read.
+ *
+ * <p> Sizes and CRC follow data of each entry in data descriptor, so that blocks are written
+ * as soon as they are deflated. Zip64 extensions are used only when they are needed.
+ *
+ * <p> Files which hardly compress can be stored as they are. CRC of stored file is computed
+ * on the threads in advance, and its data is transferred from the file without copying into
+ * the heap, if the archive is written to a file.
+ */
+final class ParallelZipWriter implements Closeable {
+
+    static final int BLOCK_SIZE = 128 * 1024;
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034B50;
+    private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074B50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014B50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064B50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064B50;
+    private static final int END_SIGNATURE = 0x06054B50;
+
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+
+    /**
+     * Sizes and CRC follow data in data descriptor.
+     */
+    private static final int FLAG_DATA_DESCRIPTOR = 1 << 3;
+
+    /**
+     * Name is encoded in UTF-8.
+     */
+    private static final int FLAG_UTF8 = 1 << 11;
+
+    private static final int VERSION = 20;
+    private static final int VERSION_ZIP64 = 45;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+
+    /**
+     * Files larger than this are written as Zip64 entry,
+     * because deflated data could be larger than 4 GiB by a few hundreds of kilobytes.
+     */
+    private static final long ZIP64_ENTRY_THRESHOLD = 0xF0000000L;
+
+    private final OutputStream out;
+
+    /**
+     * Channel of the archive file, or {@code null} if the archive isn't written to a file.
+     */
+    private final FileChannel channel;
+
+    private final ExecutorService executor;
+
+    private final int level;
+
+    /**
+     * Max number of blocks which are being deflated or waiting to be written.
+     */
+    private final int window;
+
+    /**
+     * Chunks to be written in order, which are local header, deflated block, data descriptor or stored file.
+     */
+    private final Deque<Chunk> pending = new ArrayDeque<>();
+
+    private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    private long position;
+
+    private boolean closed;
+
+    /**
+     * @param out         stream to write the archive, which is closed with this
+     * @param parallelism number of threads deflating blocks
+     * @param level       compression level from 0 to 9, or -1 as default
+     */
+    ParallelZipWriter(OutputStream out, int parallelism, int level) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+
+        this.out = new BufferedOutputStream(out, 64 * 1024);
+        this.channel = out instanceof FileOutputStream ? ((FileOutputStream) out).getChannel() : null;
+        this.level = level;
+        this.window = parallelism * 4;
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "zip-deflater");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Adds the file as an entry with the name.
+     */
+    void write(String name, File file) throws IOException {
+        Entry entry = new Entry(name.getBytes(StandardCharsets.UTF_8), dosTime(file.lastModified()),
+                METHOD_DEFLATED, file.length() > ZIP64_ENTRY_THRESHOLD);
+        this.entries.add(entry);
+
+        byte[] header = localHeader(entry);
+        append(() -> {
+            entry.offset = this.position;
+            writeBytes(header, 0, header.length);
+        });
+
+        CRC32 crc = new CRC32();
+        try (InputStream in = new FileInputStream(file)) {
+            byte[] previous = null;
+            byte[] block = readBlock(in);
+            while (true) {
+                byte[] next = block.length < BLOCK_SIZE ? null : readBlock(in);
+                boolean last = next == null || next.length == 0;
+
+                crc.update(block, 0, block.length);
+                entry.size += block.length;
+
+                byte[] input = block;
+                byte[] dictionary = previous;
+                Future<Deflated> future = this.executor.submit(() -> deflate(input, dictionary, last));
+                append(() -> {
+                    Deflated deflated = await(future);
+                    entry.compressedSize += deflated.length;
+                    writeBytes(deflated.data, 0, deflated.length);
+                });
+
+                if (last) break;
+                previous = block;
+                block = next;
+            }
+        }
+
+        entry.crc = crc.getValue();
+        append(() -> writeDataDescriptor(entry));
+    }
+
+    /**
+     * Adds the file as an entry with the name, without compression.
+     */
+    void store(String name, File file) throws IOException {
+        long size = file.length();
+        Entry entry = new Entry(name.getBytes(StandardCharsets.UTF_8), dosTime(file.lastModified()),
+                METHOD_STORED, size >= ZIP64_MAGIC);
+        entry.size = size;
+        entry.compressedSize = size;
+        this.entries.add(entry);
+
+        // Local header of stored entry has CRC, so that it can be read without data descriptor.
+        Future<Long> crc = this.executor.submit(() -> checksum(file, size));
+        append(() -> {
+            entry.crc = await(crc);
+            entry.offset = this.position;
+            byte[] header = localHeader(entry);
+            writeBytes(header, 0, header.length);
+            transfer(file, size);
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) return;
+        this.closed = true;
+
+        try {
+            drain(0);
+            writeCentralDirectory();
+            this.out.flush();
+        } finally {
+            this.executor.shutdownNow();
+            Deflater deflater;
+            while ((deflater = this.deflaters.poll()) != null) deflater.end();
+            this.out.close();
+        }
+    }
+
+    /**
+     * Appends the chunk, and writes chunks in order while too many blocks are pending.
+     */
+    private void append(Chunk chunk) throws IOException {
+        this.pending.add(chunk);
+        drain(this.window);
+    }
+
+    private void drain(int limit) throws IOException {
+        while (this.pending.size() > limit) {
+            this.pending.poll().write();
+        }
+    }
+
+    private Deflated deflate(byte[] input, byte[] dictionary, boolean last) {
+        Deflater deflater = this.deflaters.poll();
+        if (deflater == null) deflater = new Deflater(this.level, true);
+
+        try {
+            if (dictionary != null) {
+                int length = Math.min(DICTIONARY_SIZE, dictionary.length);
+                deflater.setDictionary(dictionary, dictionary.length - length, length);
+            }
+            deflater.setInput(input);
+            if (last) deflater.finish();
+
+            // Output of incompressible data is a little larger than input.
+            byte[] output = new byte[input.length + (input.length >>> 12) + 64];
+            int length = 0;
+            while (true) {
+                if (length == output.length) output = Arrays.copyOf(output, output.length * 2);
+                int n = deflater.deflate(output, length, output.length - length,
+                        last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+                length += n;
+
+                // Not last block ends with an empty stored block, which is aligned to byte.
+                if (last ? deflater.finished() : length < output.length && deflater.needsInput()) break;
+            }
+
+            return new Deflated(output, length);
+        } finally {
+            deflater.reset();
+            this.deflaters.add(deflater);
+        }
+    }
+
+    private void transfer(File file, long size) throws IOException {
+        try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (this.channel == null) {
+                InputStream stream = Channels.newInputStream(in);
+                byte[] buffer = new byte[BLOCK_SIZE];
+                for (long remaining = size; remaining > 0; ) {
+                    int length = stream.readNBytes(buffer, 0, (int) Math.min(remaining, buffer.length));
+                    if (length == 0) throw new IOException("File has been changed while archiving: " + file);
+                    this.out.write(buffer, 0, length);
+                    remaining -= length;
+                }
+            } else {
+                this.out.flush();
+                for (long transferred = 0; transferred < size; ) {
+                    long length = in.transferTo(transferred, size - transferred, this.channel);
+                    if (length == 0) throw new IOException("File has been changed while archiving: " + file);
+                    transferred += length;
+                }
+            }
+        }
+
+        this.position += size;
+    }
+
+    private void writeDataDescriptor(Entry entry) throws IOException {
+        writeInt(DATA_DESCRIPTOR_SIGNATURE);
+        writeInt(entry.crc);
+        if (entry.zip64) {
+            writeLong(entry.compressedSize);
+            writeLong(entry.size);
+        } else {
+            writeInt(entry.compressedSize);
+            writeInt(entry.size);
+        }
+    }
+
+    private byte[] localHeader(Entry entry) {
+        ByteWriter header = new ByteWriter(30 + entry.name.length + 20);
+        header.writeInt(LOCAL_HEADER_SIGNATURE);
+        header.writeShort(entry.zip64 ? VERSION_ZIP64 : VERSION);
+        header.writeShort(entry.flags());
+        header.writeShort(entry.method);
+        header.writeInt(entry.dosTime);
+        // CRC and sizes of deflated entry are in data descriptor.
+        header.writeInt(entry.crc);
+        header.writeInt(entry.zip64 ? ZIP64_MAGIC : entry.compressedSize);
+        header.writeInt(entry.zip64 ? ZIP64_MAGIC : entry.size);
+        header.writeShort(entry.name.length);
+        header.writeShort(entry.zip64 ? 20 : 0);
+        header.write(entry.name);
+        if (entry.zip64) {
+            header.writeShort(ZIP64_EXTRA_ID);
+            header.writeShort(16);
+            header.writeLong(entry.size);
+            header.writeLong(entry.compressedSize);
+        }
+
+        return header.toByteArray();
+    }
+
+    private void writeCentralDirectory() throws IOException {
+        long start = this.position;
+
+        for (Entry entry : this.entries) {
+            boolean sizeOverflow = entry.zip64 || entry.size >= ZIP64_MAGIC || entry.compressedSize >= ZIP64_MAGIC;
+            boolean offsetOverflow = entry.offset >= ZIP64_MAGIC;
+            int extraLength = (sizeOverflow ? 16 : 0) + (offsetOverflow ? 8 : 0);
+            int version = extraLength > 0 ? VERSION_ZIP64 : VERSION;
+
+            ByteWriter header = new ByteWriter(46 + entry.name.length + 4 + extraLength);
+            header.writeInt(CENTRAL_HEADER_SIGNATURE);
+            header.writeShort(version);
+            header.writeShort(version);
+            header.writeShort(entry.flags());
+            header.writeShort(entry.method);
+            header.writeInt(entry.dosTime);
+            header.writeInt(entry.crc);
+            header.writeInt(sizeOverflow ? ZIP64_MAGIC : entry.compressedSize);
+            header.writeInt(sizeOverflow ? ZIP64_MAGIC : entry.size);
+            header.writeShort(entry.name.length);
+            header.writeShort(extraLength > 0 ? extraLength + 4 : 0);
+            // Comment length, disk number, internal and external attributes.
+            header.writeShort(0);
+            header.writeShort(0);
+            header.writeShort(0);
+            header.writeInt(0);
+            header.writeInt(offsetOverflow ? ZIP64_MAGIC : entry.offset);
+            header.write(entry.name);
+            if (extraLength > 0) {
+                header.writeShort(ZIP64_EXTRA_ID);
+                header.writeShort(extraLength);
+                if (sizeOverflow) {
+                    header.writeLong(entry.size);
+                    header.writeLong(entry.compressedSize);
+                }
+                if (offsetOverflow) header.writeLong(entry.offset);
+            }
+
+            byte[] bytes = header.toByteArray();
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        long size = this.position - start;
+        int count = this.entries.size();
+        boolean zip64 = count >= ZIP64_MAGIC_COUNT || start >= ZIP64_MAGIC || size >= ZIP64_MAGIC;
+
+        if (zip64) {
+            long end64 = this.position;
+            writeInt(ZIP64_END_SIGNATURE);
+            writeLong(44);
+            writeShort(VERSION_ZIP64);
+            writeShort(VERSION_ZIP64);
+            writeInt(0);
+            writeInt(0);
+            writeLong(count);
+            writeLong(count);
+            writeLong(size);
+            writeLong(start);
+
+            writeInt(ZIP64_LOCATOR_SIGNATURE);
+            writeInt(0);
+            writeLong(end64);
+            writeInt(1);
+        }
+
+        writeInt(END_SIGNATURE);
+        writeShort(0);
+        writeShort(0);
+        writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+        writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+        writeInt(Math.min(size, ZIP64_MAGIC));
+        writeInt(Math.min(start, ZIP64_MAGIC));
+        writeShort(0);
+    }
+
+    private void writeBytes(byte[] bytes, int offset, int length) throws IOException {
+        this.out.write(bytes, offset, length);
+        this.position += length;
+    }
+
+    private void writeShort(int value) throws IOException {
+        this.out.write(value & 0xFF);
+        this.out.write(value >>> 8 & 0xFF);
+        this.position += 2;
+    }
+
+    private void writeInt(long value) throws IOException {
+        writeShort((int) (value & 0xFFFF));
+        writeShort((int) (value >>> 16 & 0xFFFF));
+    }
+
+    private void writeLong(long value) throws IOException {
+        writeInt(value & 0xFFFFFFFFL);
+        writeInt(value >>> 32);
+    }
+
+    private static byte[] readBlock(InputStream in) throws IOException {
+        byte[] block = new byte[BLOCK_SIZE];
+        int length = in.readNBytes(block, 0, BLOCK_SIZE);
+
+        return length == BLOCK_SIZE ? block : Arrays.copyOf(block, length);
+    }
+
+    private static long checksum(File file, long size) throws IOException {
+        CRC32 crc = new CRC32();
+        long length = 0;
+        try (InputStream in = new FileInputStream(file)) {
+            byte[] buffer = new byte[(int) Math.max(1, Math.min(size, BLOCK_SIZE))];
+            for (int n; (n = in.read(buffer)) > 0; length += n) {
+                crc.update(buffer, 0, n);
+            }
+        }
+        if (length != size) throw new IOException("File has been changed while archiving: " + file);
+
+        return crc.getValue();
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while archiving");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) throw ((UncheckedIOException) cause).getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Converts epoch milliseconds into MS-DOS date and time in local time zone.
+     */
+    static long dosTime(long millis) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+        if (time.getYear() < 1980) return 1 << 21 | 1 << 16;
+
+        return (long) (time.getYear() - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16
+                | time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+    }
+
+    private static final class Entry {
+        private final byte[] name;
+        private final long dosTime;
+        private final int method;
+        private final boolean zip64;
+        private long offset;
+        private long crc;
+        private long size;
+        private long compressedSize;
+
+        private Entry(byte[] name, long dosTime, int method, boolean zip64) {
+            this.name = name;
+            this.dosTime = dosTime;
+            this.method = method;
+            this.zip64 = zip64;
+        }
+
+        private int flags() {
+            return this.method == METHOD_STORED ? FLAG_UTF8 : FLAG_DATA_DESCRIPTOR | FLAG_UTF8;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Chunk {
+        void write() throws IOException;
+    }
+
+    private static final class Deflated {
+        private final byte[] data;
+        private final int length;
+
+        private Deflated(byte[] data, int length) {
+            this.data = data;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Little-endian writer of a header.
+     */
+    private static final class ByteWriter {
+        private final byte[] bytes;
+        private int length;
+
+        private ByteWriter(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        private void writeShort(int value) {
+            this.bytes[this.length++] = (byte) value;
+            this.bytes[this.length++] = (byte) (value >>> 8);
+        }
+
+        private void writeInt(long value) {
+            writeShort((int) value);
+            writeShort((int) (value >>> 16));
+        }
+
+        private void writeLong(long value) {
+            writeInt(value);
+            writeInt(value >>> 32);
+        }
+
+        private void write(byte[] value) {
+            System.arraycopy(value, 0, this.bytes, this.length, value.length);
+            this.length += value.length;
+        }
+
+        private byte[] toByteArray() {
+            return this.length == this.bytes.length ? this.bytes : Arrays.copyOf(this.bytes, this.length);
+        }
+    }
+
+}
@@ -0,0 +1,320 @@
+package io.github.imsejin.wnliext.common.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.ZipException;
+
+/**
+ * Central directory of zip archive
+ *
+ * <p> Reads only the end of central directory and the central directory, without opening
+ * {@link java.util.zip.ZipFile}, to get metadata of entries such as name, sizes, CRC and
+ * offset of local header. Entries are accessed by index in order of the central directory,
+ * and Zip64 extensions are supported.
+ *
+ * <p> This view is reusable: {@link #load(Path)} replaces what it has with another archive,
+ * reusing its buffers. Large central directory is memory-mapped, and small one is read into
+ * the buffer, because mapped region is released only when it is garbage-collected.
+ * Loaded view can be read by multiple threads, but must not be loaded concurrently.
+ *
+ * <pre>
+ * ZipCentralDirectory directory = new ZipCentralDirectory();
+ * for (Path path : paths) {
+ *     directory.load(path);
+ *     for (int i = 0; i &lt; directory.size(); i++) {
+ *         total += directory.size(i);
+ *     }
+ * }
+ * </pre>
+ */
+public final class ZipCentralDirectory {
+
+    /**
+     * Central directory larger than this is memory-mapped.
+     */
+    static final int MAP_THRESHOLD = 256 * 1024;
+
+    private static final Charset CP949 = Charset.forName("CP949");
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034B50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014B50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064B50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064B50;
+    private static final int END_SIGNATURE = 0x06054B50;
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_SIZE = 22;
+    private static final int ZIP64_END_SIZE = 56;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+    /**
+     * Size of the tail which is read first to find end of central directory,
+     * which is enough unless the archive has a long comment.
+     */
+    private static final int TAIL_SIZE = 1024;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+
+    private static final int FLAG_UTF8 = 1 << 11;
+
+    /**
+     * Reused buffer for the tail and small central directory.
+     */
+    private ByteBuffer heap = ByteBuffer.allocate(TAIL_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Central directory of the loaded archive, which is {@link #heap} or mapped region.
+     */
+    private ByteBuffer buffer = this.heap;
+
+    /**
+     * Positions of records in the buffer.
+     */
+    private int[] positions = new int[0];
+
+    private int size;
+
+    /**
+     * Loads the central directory of the archive.
+     *
+     * @return this
+     * @throws ZipException if the file isn't a valid zip archive
+     */
+    public ZipCentralDirectory load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return load(channel);
+        }
+    }
+
+    /**
+     * Loads the central directory of the archive, whose channel is left open.
+     *
+     * @return this
+     * @throws ZipException if the file isn't a valid zip archive
+     */
+    public ZipCentralDirectory load(FileChannel channel) throws IOException {
+        this.size = 0;
+        this.buffer = this.heap;
+
+        long fileSize = channel.size();
+        long tailStart = Math.max(0, fileSize - TAIL_SIZE);
+        ByteBuffer tail = readIntoHeap(channel, tailStart, (int) (fileSize - tailStart));
+        int end = findEnd(tail);
+        if (end < 0 && tailStart > 0) {
+            tailStart = Math.max(0, fileSize - END_SIZE - MAX_COMMENT_SIZE);
+            tail = readIntoHeap(channel, tailStart, (int) (fileSize - tailStart));
+            end = findEnd(tail);
+        }
+        if (end < 0) throw new ZipException("End of central directory is not found");
+
+        long count = tail.getShort(end + 10) & 0xFFFF;
+        long length = tail.getInt(end + 12) & ZIP64_MAGIC;
+        long offset = tail.getInt(end + 16) & ZIP64_MAGIC;
+
+        // Zip64 locator precedes the end, but it is out of the tail if the comment fills the tail.
+        ByteBuffer locator = tail;
+        int locatorPosition = end - ZIP64_LOCATOR_SIZE;
+        if (locatorPosition < 0 && tailStart + locatorPosition >= 0) {
+            locator = read(channel, tailStart + locatorPosition,
+                    ByteBuffer.allocate(ZIP64_LOCATOR_SIZE).order(ByteOrder.LITTLE_ENDIAN));
+            locatorPosition = 0;
+        }
+        if (locatorPosition >= 0 && locator.getInt(locatorPosition) == ZIP64_LOCATOR_SIGNATURE) {
+            ByteBuffer end64 = readIntoHeap(channel, locator.getLong(locatorPosition + 8), ZIP64_END_SIZE);
+            if (end64.getInt(0) != ZIP64_END_SIGNATURE) {
+                throw new ZipException("Invalid Zip64 end of central directory");
+            }
+            count = end64.getLong(32);
+            length = end64.getLong(40);
+            offset = end64.getLong(48);
+        }
+        if (length > Integer.MAX_VALUE || offset + length > fileSize || count > length / CENTRAL_HEADER_SIZE) {
+            throw new ZipException("Invalid central directory: " + count + " entries in " + length + " bytes");
+        }
+
+        ByteBuffer buffer = length > MAP_THRESHOLD
+                ? channel.map(FileChannel.MapMode.READ_ONLY, offset, length).order(ByteOrder.LITTLE_ENDIAN)
+                : readIntoHeap(channel, offset, (int) length);
+
+        if (this.positions.length < count) this.positions = new int[(int) count];
+        for (int i = 0, position = 0; i < count; i++) {
+            if (position + CENTRAL_HEADER_SIZE > length || buffer.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory header at " + (offset + position));
+            }
+
+            // Name, extra field and comment must not run past the central directory.
+            long next = (long) position + CENTRAL_HEADER_SIZE + (buffer.getShort(position + 28) & 0xFFFF)
+                    + (buffer.getShort(position + 30) & 0xFFFF) + (buffer.getShort(position + 32) & 0xFFFF);
+            if (next > length) throw new ZipException("Truncated central directory header at " + (offset + position));
+
+            this.positions[i] = position;
+            position = (int) next;
+        }
+
+        this.buffer = buffer;
+        this.size = (int) count;
+
+        return this;
+    }
+
+    /**
+     * Returns the number of entries.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns name of the entry, which is decoded in CP949 unless it is flagged as UTF-8.
+     */
+    public String name(int index) {
+        int position = position(index);
+        int length = nameLength(position);
+        Charset charset = (this.buffer.getShort(position + 8) & FLAG_UTF8) == 0 ? CP949 : StandardCharsets.UTF_8;
+
+        if (this.buffer.hasArray()) {
+            return new String(this.buffer.array(), position + CENTRAL_HEADER_SIZE, length, charset);
+        }
+
+        byte[] name = new byte[length];
+        ByteBuffer view = this.buffer.duplicate();
+        view.position(position + CENTRAL_HEADER_SIZE);
+        view.get(name);
+
+        return new String(name, charset);
+    }
+
+    public boolean isDirectory(int index) {
+        int position = position(index);
+        int length = nameLength(position);
+
+        return length > 0 && this.buffer.get(position + CENTRAL_HEADER_SIZE + length - 1) == '/';
+    }
+
+    /**
+     * Returns compression method, which is {@link java.util.zip.ZipEntry#STORED}
+     * or {@link java.util.zip.ZipEntry#DEFLATED} in most cases.
+     */
+    public int method(int index) {
+        return this.buffer.getShort(position(index) + 10) & 0xFFFF;
+    }
+
+    public long crc(int index) {
+        return this.buffer.getInt(position(index) + 16) & ZIP64_MAGIC;
+    }
+
+    public long compressedSize(int index) {
+        return zip64Field(position(index), 1);
+    }
+
+    /**
+     * Returns uncompressed size of the entry.
+     */
+    public long size(int index) {
+        return zip64Field(position(index), 0);
+    }
+
+    public long localHeaderOffset(int index) {
+        return zip64Field(position(index), 2);
+    }
+
+    /**
+     * Returns offset of data of the entry, which follows its local header.
+     */
+    long dataOffset(FileChannel channel, int index) throws IOException {
+        long offset = localHeaderOffset(index);
+        ByteBuffer header = read(channel, offset, ByteBuffer.allocate(LOCAL_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN));
+        if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) throw new ZipException("Invalid local header at " + offset);
+
+        return offset + LOCAL_HEADER_SIZE + (header.getShort(26) & 0xFFFF) + (header.getShort(28) & 0xFFFF);
+    }
+
+    private int position(int index) {
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        return this.positions[index];
+    }
+
+    private int nameLength(int position) {
+        return this.buffer.getShort(position + 28) & 0xFFFF;
+    }
+
+    /**
+     * Returns uncompressed size, compressed size or offset of local header.
+     * If it is overflowed in the header, it is in Zip64 extra, which has only the overflowed fields
+     * in that order.
+     */
+    private long zip64Field(int position, int field) {
+        long value = this.buffer.getInt(position + fieldOffset(field)) & ZIP64_MAGIC;
+        if (value != ZIP64_MAGIC) return value;
+
+        int extra = position + CENTRAL_HEADER_SIZE + nameLength(position);
+        int extraEnd = extra + (this.buffer.getShort(position + 30) & 0xFFFF);
+        while (extra + 4 <= extraEnd) {
+            int id = this.buffer.getShort(extra) & 0xFFFF;
+            int length = this.buffer.getShort(extra + 2) & 0xFFFF;
+            if (id != ZIP64_EXTRA_ID) {
+                extra += 4 + length;
+                continue;
+            }
+
+            int cursor = extra + 4;
+            for (int i = 0; i < field; i++) {
+                if ((this.buffer.getInt(position + fieldOffset(i)) & ZIP64_MAGIC) == ZIP64_MAGIC) cursor += 8;
+            }
+            if (cursor + 8 <= extra + 4 + length) return this.buffer.getLong(cursor);
+            break;
+        }
+
+        return value;
+    }
+
+    private static int fieldOffset(int field) {
+        switch (field) {
+            case 0:
+                return 24;
+            case 1:
+                return 20;
+            default:
+                return 42;
+        }
+    }
+
+    private static int findEnd(ByteBuffer tail) {
+        for (int i = tail.limit() - END_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == END_SIGNATURE && i + END_SIZE + (tail.getShort(i + 20) & 0xFFFF) <= tail.limit()) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private ByteBuffer readIntoHeap(FileChannel channel, long position, int length) throws IOException {
+        if (this.heap.capacity() < length) {
+            this.heap = ByteBuffer.allocate(Math.max(length, this.heap.capacity() * 2)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        this.heap.clear().limit(length);
+
+        return read(channel, position, this.heap);
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position() - start) < 0) throw new EOFException();
+        }
+
+        return buffer.flip();
+    }
+
+}
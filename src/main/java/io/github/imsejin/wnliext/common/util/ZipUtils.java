@@ -3,26 +3,16 @@ package io.github.imsejin.wnliext.common.util;
 import io.github.imsejin.common.util.FileUtils;
 import io.github.imsejin.common.util.FilenameUtils;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
-import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
+import java.util.zip.Deflater;
 
 /**
  * 압축 유틸리티<br>
@@ -40,8 +30,18 @@ public final class ZipUtils {
 
     private static final List<String> EXTENSIONS = Arrays.asList("7z", "alz", "ace", "exe", "gz", "iso", "lzh", "rar", "tar", "tgz", "xz", "zip", "zipx");
 
+    /**
+     * 이미 압축된 이미지 확장자 (압축해도 거의 줄어들지 않음)
+     */
+    private static final List<String> MEDIA_EXTENSIONS = Arrays.asList("avif", "gif", "heic", "jpeg", "jpg", "png", "webp");
+
     private static final String ZIP_FILE_EXTENSION = ".zip";
 
+    /**
+     * 스레드마다 재사용하는 중앙 디렉터리
+     */
+    private static final ThreadLocal<ZipCentralDirectory> CENTRAL_DIRECTORY = ThreadLocal.withInitial(ZipCentralDirectory::new);
+
     /**
      * 해당 경로에 있는 모든 파일을 압축하고, 압축된 파일을 삭제한다.
      * (폴더와 압축 파일은 압축 대상에서 제외)
@@ -65,6 +65,44 @@ public final class ZipUtils {
      * </pre>
      */
     public static File compress(Path path, String zipFileName, boolean willDelete) {
+        return compress(path, zipFileName, willDelete, Runtime.getRuntime().availableProcessors(),
+                Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * 해당 경로에 있는 모든 파일을 여러 스레드로 압축한다.
+     * (스레드 수와 압축 수준을 지정할 수 있음, 폴더와 압축 파일은 압축 대상에서 제외)
+     *
+     * <p> 각 파일을 128 KiB 블록으로 나누어 병렬로 압축하고, 순서대로 기록한다.
+     *
+     * <pre>
+     * Path path = Paths.get("C:/Program Files/Java");
+     * ZipUtil.compress(path, "java.zip", false, 4, Deflater.BEST_SPEED);
+     * </pre>
+     *
+     * @param parallelism 압축하는 스레드 수
+     * @param level       압축 수준 (0 ~ 9, 기본값은 -1)
+     */
+    public static File compress(Path path, String zipFileName, boolean willDelete, int parallelism, int level) {
+        return compress(path, zipFileName, willDelete, parallelism, level, false);
+    }
+
+    /**
+     * 해당 경로에 있는 모든 파일을 여러 스레드로 압축한다.
+     * (이미 압축된 이미지를 압축하지 않고 저장할지 결정할 수 있음, 폴더와 압축 파일은 압축 대상에서 제외)
+     *
+     * <p> jpg, png, webp 등의 이미지는 압축해도 거의 줄어들지 않으므로, STORED 엔트리로 그대로 저장한다.
+     * 압축 파일을 해제할 때, STORED 엔트리는 압축 해제 없이 그대로 복사된다.
+     *
+     * <pre>
+     * Path path = Paths.get("D:/Webtoons/신의 탑");
+     * ZipUtil.compress(path, "신의 탑.zip", false, 4, Deflater.DEFAULT_COMPRESSION, true);
+     * </pre>
+     *
+     * @param storeMedia 이미지를 압축하지 않고 저장할지 여부
+     */
+    public static File compress(Path path, String zipFileName, boolean willDelete, int parallelism, int level,
+                                boolean storeMedia) {
         // 압축 파일을 제외한 파일 리스트
         File[] fileArray = path.toFile().listFiles((file, fileNm) -> !fileNm.endsWith(ZIP_FILE_EXTENSION));
 
@@ -75,43 +113,29 @@ public final class ZipUtils {
         File[] files = Stream.of(fileArray).filter(File::isFile).toArray(File[]::new);
 
         // 해당 경로에 파일이 하나도 없으면, 압축을 중단한다
-        if (files == null || files.length == 0) return null;
+        if (files.length == 0) return null;
 
         // 압축파일명에 `.zip` 확장자가 붙어 있지 않으면, 붙여준다
         if (!zipFileName.endsWith(ZIP_FILE_EXTENSION)) zipFileName += ZIP_FILE_EXTENSION;
 
         // Create the ZIP file
         File zipFile = Paths.get(path.toString(), zipFileName).toFile();
-        try (ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zipFile)))) {
-            // Create a buffer for reading the files
-            byte[] buffer = new byte[1024];
-
+        try (ParallelZipWriter out = new ParallelZipWriter(new FileOutputStream(zipFile), parallelism, level)) {
             for (File file : files) {
-                String filePath = file.getPath();
-                String fileName = file.getName();
-
-                FileInputStream in = new FileInputStream(filePath);
-
-                // Add ZIP entry to output stream.
-                out.putNextEntry(new ZipEntry(fileName));
-
-                // Transfer bytes from the file to the ZIP file
-                int len;
-                while ((len = in.read(buffer)) > 0) {
-                    out.write(buffer, 0, len);
+                if (storeMedia && isMediaExtension(FilenameUtils.extension(file))) {
+                    out.store(file.getName(), file);
+                } else {
+                    out.write(file.getName(), file);
                 }
-
-                // Complete the entry
-                out.closeEntry();
-                in.close();
             }
-
-            // 압축 대상의 파일을 삭제한다
-            if (willDelete) Stream.of(files).forEach(File::delete);
         } catch (IOException ex) {
             ex.printStackTrace();
+            return zipFile;
         }
 
+        // 압축 대상의 파일을 삭제한다
+        if (willDelete) Stream.of(files).forEach(File::delete);
+
         return zipFile;
     }
 
@@ -179,50 +203,48 @@ public final class ZipUtils {
         _decompress(zipFile, dest, willDelete, true);
     }
 
+    /**
+     * 압축파일을 지정한 경로에 여러 스레드로 해제한다.
+     * (스레드 수를 지정할 수 있음, 압축파일을 삭제할지 결정할 수 있음)
+     *
+     * <p> 중앙 디렉터리로 엔트리를 찾아, 폴더를 먼저 만들고 각 엔트리를 병렬로 해제한다.
+     * 지정한 경로 밖으로 해제되는 엔트리가 있으면, 아무것도 해제하지 않는다.
+     *
+     * <pre>
+     * File zipFile = new File("C:/Program Files/Java/jdk-8.zip");
+     * Path destination = Paths.get("E:/Program Files/Java/jdk");
+     *
+     * ZipUtil.decompress(zipFile, destination, false, 4);
+     * </pre>
+     *
+     * @param parallelism 해제하는 스레드 수
+     */
+    public static void decompress(File zipFile, Path dest, boolean willDelete, int parallelism) {
+        _decompress(zipFile, dest, willDelete, false, parallelism);
+    }
+
     private static void _decompress(File zipFile, Path dest, boolean willDelete, boolean nested) {
+        _decompress(zipFile, dest, willDelete, nested, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static void _decompress(File zipFile, Path dest, boolean willDelete, boolean nested, int parallelism) {
         // 유효한 압축파일인지 확인한다
         if (zipFile == null || !zipFile.getName().endsWith(ZIP_FILE_EXTENSION)) return;
 
-        // 코드페이지를 `확장 완성형 한글`로 설정한다
-        final Charset cp949 = Charset.forName("CP949");
-
-        try (ZipInputStream in = new ZipInputStream(new BufferedInputStream(new FileInputStream(zipFile)), cp949)) {
-            // 존재하지 않는 디렉터리면 생성한다
-            if (Files.notExists(dest)) dest.toAbsolutePath().toFile().mkdirs();
-
-            final String destPathName = dest.toRealPath().toString();
-            final byte[] buffer = new byte[1024];
-
-            // 엔트리가 없을 때까지 압축을 해제한다
-            ZipEntry entry;
-            while ((entry = in.getNextEntry()) != null) {
-                System.out.println("entry: " + entry);
-
-                // 엔트리가 폴더면 폴더를 생성한다
-                if (entry.isDirectory()) {
-                    File folder = Paths.get(destPathName, entry.getName()).toFile();
-                    folder.mkdirs();
-                    System.out.println("folder: " + folder);
-                }
-
-                // 해당 엔트리를 파일로 생성한다
-                File file = new File(destPathName, entry.getName());
-                try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
-                    int len;
-                    while ((len = in.read(buffer)) > 0) {
-                        out.write(buffer, 0, len);
-                    }
-                } catch (IOException ex) {
-                    ex.printStackTrace();
-                }
-
-                // 중첩 압축파일을 해제한다
-                if (nested && file.getName().endsWith(ZIP_FILE_EXTENSION)) {
-                    _decompress(file, file.getParentFile().toPath(), willDelete, nested);
-                }
-            }
+        List<Path> files;
+        try {
+            files = ParallelZipExtractor.extract(zipFile, dest, parallelism);
         } catch (IOException ex) {
             ex.printStackTrace();
+            return;
+        }
+
+        // 중첩 압축파일을 해제한다
+        if (nested) {
+            for (Path file : files) {
+                if (!file.getFileName().toString().endsWith(ZIP_FILE_EXTENSION)) continue;
+                _decompress(file.toFile(), file.getParent(), willDelete, nested, parallelism);
+            }
         }
 
         // 압축파일을 삭제한다
@@ -258,29 +280,52 @@ public final class ZipUtils {
         // 유효한 압축파일인지 확인한다
         if (zipFile == null || !zipFile.getName().endsWith(ZIP_FILE_EXTENSION)) return entryNames;
 
-        // 코드페이지를 `확장 완성형 한글`로 설정한다
-        final Charset cp949 = Charset.forName("CP949");
+        // 스레드마다 재사용하는 중앙 디렉터리만 읽는다 (엔트리명은 `확장 완성형 한글`로 디코딩)
+        try {
+            ZipCentralDirectory directory = CENTRAL_DIRECTORY.get().load(zipFile.toPath());
+            entryNames = new ArrayList<>(directory.size());
 
-        try (ZipFile zip = new ZipFile(zipFile, cp949)) {
-            Stream<? extends ZipEntry> stream = zip.stream();
-            Function<? super ZipEntry, String> mapper = ZipEntry::getName;
+            for (int i = 0; i < directory.size(); i++) {
+                // 디렉터리를 제외한다
+                if (exceptDir && directory.isDirectory(i)) continue;
 
-            // 디렉터리를 제외한다
-            if (exceptDir) {
-                stream = stream.filter(entry -> !entry.isDirectory());
-                mapper = ZipUtils::getFileName;
+                String name = directory.name(i);
+                entryNames.add(exceptDir ? getFileName(name) : name);
             }
-
-            entryNames = stream.map(mapper).collect(Collectors.toList());
         } catch (IOException ex) {
             ex.printStackTrace();
+            entryNames = null;
         }
 
         return entryNames;
     }
 
-    private static String getFileName(ZipEntry entry) {
-        String fileName = entry.getName();
+    /**
+     * 압축파일의 중앙 디렉터리를 반환한다.
+     * (중앙 디렉터리만 읽음, 스레드마다 재사용하므로 같은 스레드에서 다시 호출하기 전까지만 유효함)
+     *
+     * <p> zip 형식만 지원하며, rar, 7z 등 다른 형식의 압축파일은 null을 반환한다.
+     *
+     * <pre>
+     * File zipFile = new File("D:/Webtoons/[N] 신의 탑.zip");
+     *
+     * ZipUtil.getCentralDirectory(zipFile).size(): 122
+     * </pre>
+     *
+     * @return 중앙 디렉터리, 압축파일이 아니거나 읽을 수 없으면 null
+     */
+    public static ZipCentralDirectory getCentralDirectory(File zipFile) {
+        // 유효한 압축파일인지 확인한다
+        if (zipFile == null || !zipFile.getName().endsWith(ZIP_FILE_EXTENSION)) return null;
+
+        try {
+            return CENTRAL_DIRECTORY.get().load(zipFile.toPath());
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private static String getFileName(String fileName) {
         int lastIndexOfSeparator = lastIndexDirectory(fileName);
 
         return lastIndexOfSeparator != -1 ? fileName.substring(lastIndexOfSeparator + 1) : fileName;
@@ -312,8 +357,29 @@ public final class ZipUtils {
     public static boolean isZip(File file) {
         if (file == null || !file.isFile()) return false;
 
-        for (String extension : EXTENSIONS) {
-            if (extension.equalsIgnoreCase(FilenameUtils.extension(file))) return true;
+        return isZipExtension(FilenameUtils.extension(file));
+    }
+
+    /**
+     * 압축 파일의 확장자인지 확인한다.
+     * (대소문자를 구분하지 않음)
+     *
+     * <pre>
+     * ZipUtil.isZipExtension("html"): false
+     * ZipUtil.isZipExtension("ZIP"): true
+     * </pre>
+     */
+    public static boolean isZipExtension(String extension) {
+        for (String it : EXTENSIONS) {
+            if (it.equalsIgnoreCase(extension)) return true;
+        }
+
+        return false;
+    }
+
+    private static boolean isMediaExtension(String extension) {
+        for (String it : MEDIA_EXTENSIONS) {
+            if (it.equalsIgnoreCase(extension)) return true;
         }
 
         return false;
@@ -0,0 +1,85 @@
+package io.github.imsejin.wnliext.console;
+
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.SneakyThrows;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Console output
+ *
+ * <p> Writes to console through one large buffer, which is flushed only when it is full
+ * or flushed explicitly, instead of flushing on every line.
+ */
+public final class ConsoleOutput {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ConsoleOutput() {
+    }
+
+    /**
+     * Replaces {@link System#out} with the buffered stream.
+     *
+     * <p> Call {@link PrintStream#flush()} before waiting for something or exiting.
+     *
+     * @return buffered stream
+     */
+    @SneakyThrows
+    public static PrintStream install() {
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), BUFFER_SIZE),
+                false, Charset.defaultCharset().name());
+        System.setOut(out);
+
+        return out;
+    }
+
+    /**
+     * Prints each webtoon and the total.
+     */
+    public static void printWebtoons(PrintStream out, List<Webtoon> webtoons) {
+        for (Webtoon webtoon : webtoons) {
+            out.println(webtoon);
+        }
+        out.printf("%nTotal %,d webtoon%s%n", webtoons.size(), webtoons.isEmpty() ? "" : "s");
+    }
+
+    /**
+     * Prints counts of completed and ongoing webtoons and their size per platform.
+     *
+     * <pre>
+     * Platform       Webtoons   Completed     Ongoing           Size(byte)
+     * Naver             1,234         500         734       12,345,678,901
+     * ...
+     * Total             1,234         500         734       12,345,678,901
+     * </pre>
+     */
+    public static void printSummary(PrintStream out, List<Webtoon> webtoons) {
+        Map<Platform, long[]> counts = new EnumMap<>(Platform.class);
+        long[] total = new long[3];
+        for (Webtoon webtoon : webtoons) {
+            // completed, ongoing, size
+            long[] count = counts.computeIfAbsent(webtoon.getPlatform(), it -> new long[3]);
+            int i = webtoon.isCompleted() ? 0 : 1;
+            count[i]++;
+            count[2] += webtoon.getSize();
+            total[i]++;
+            total[2] += webtoon.getSize();
+        }
+
+        String format = "%-12s %,10d %,11d %,11d %,20d%n";
+        out.printf("%n%-12s %10s %11s %11s %20s%n", "Platform", "Webtoons", "Completed", "Ongoing", "Size(byte)");
+        counts.forEach((platform, count) -> out.printf(format, platform.getCodeName(),
+                count[0] + count[1], count[0], count[1], count[2]));
+        out.printf(format, "Total", total[0] + total[1], total[0], total[1], total[2]);
+    }
+
+}
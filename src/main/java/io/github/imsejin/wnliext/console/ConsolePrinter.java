@@ -1,21 +1,37 @@
 package io.github.imsejin.wnliext.console;
 
 import io.github.imsejin.wnliext.common.ApplicationMetadata;
-import lombok.SneakyThrows;
 
 /**
  * Console printer
  */
 public final class ConsolePrinter {
 
-    private static final ProcessBuilder COMMAND = new ProcessBuilder("cmd", "/c", "cls").inheritIO();
+    /**
+     * SGR parameters of attributes, the same as JCDP's {@code Attribute.BOLD} and {@code Attribute.LIGHT}.
+     */
+    private static final String BOLD = "1", LIGHT = "1";
+
+    private static final String BOLD_GREEN = BOLD + ";32";
+
+    private static final String BOLD_CYAN = BOLD + ";36";
+
+    private static final String BOLD_YELLOW = BOLD + ";33";
+
+    private static final String LIGHT_MAGENTA = LIGHT + ";35";
+
+    private static final String LIGHT_RED = LIGHT + ";31";
+
+    /**
+     * Title of this application, which is colored once.
+     */
+    private static final String LOGO = renderLogo(ApplicationMetadata.APPLICATION_TITLE);
 
     private ConsolePrinter() {
     }
 
-    @SneakyThrows
     public static void clear() {
-        COMMAND.start().waitFor();
+        Terminal.clear(System.out);
     }
 
     public static void printLogo() {
@@ -23,18 +39,36 @@ public final class ConsolePrinter {
         clear();
 
         // Prints the information of this application
-        ConsoleThread.printMetadata(ApplicationMetadata.APPLICATION_TITLE);
+        System.out.print(LOGO);
     }
 
-    public static synchronized void print(WorkingProcess workingProcess) {
-        // ConsoleThread will be multiply used in thread
-        ConsoleThread thread = new ConsoleThread();
-        thread.setWorkingProcess(workingProcess);
+    static String renderLogo(String[] appTitle) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < appTitle.length; i++) {
+            String line = appTitle[i];
 
-        // Separates upper console logs
-        System.out.println("\n");
+            if (i < 3) {
+                // Webtoon, List
+                appendSplit(sb, line, 39, BOLD_GREEN, BOLD_CYAN);
+            } else if (i < 6) {
+                // Webtoon, List
+                appendSplit(sb, line, 44 - 4, BOLD_GREEN, BOLD_CYAN);
+            } else if (i < 12) {
+                // Extractor
+                sb.append(Terminal.color(line, BOLD_YELLOW));
+            } else {
+                // :: WebtoonList Extractor ::, (v1.0.0.RELEASE)
+                appendSplit(sb, line, 35, LIGHT_MAGENTA, LIGHT_RED);
+            }
+            sb.append(System.lineSeparator());
+        }
+
+        return sb.append(System.lineSeparator()).toString();
+    }
 
-        new Thread(thread).start();
+    private static void appendSplit(StringBuilder sb, String line, int index, String head, String tail) {
+        int i = Math.min(index, line.length());
+        sb.append(Terminal.color(line.substring(0, i), head)).append(Terminal.color(line.substring(i), tail));
     }
 
 }
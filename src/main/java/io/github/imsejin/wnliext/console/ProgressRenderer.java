@@ -0,0 +1,162 @@
+package io.github.imsejin.wnliext.console;
+
+import javax.annotation.Nullable;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.imsejin.wnliext.common.Constants.console.PROGRESS_BAR_LENGTH;
+import static io.github.imsejin.wnliext.common.Constants.console.PROGRESS_FRAMES_PER_SECOND;
+
+/**
+ * Progress renderer
+ *
+ * <p> Renders progress of the running tasks at a fixed frame rate on a single thread.
+ * Tasks only add to their counters, so they don't wait for rendering.
+ * Each task has its own line, which is redrawn only when anything has changed.
+ *
+ * <p> Until it is enabled, tasks are counted but not rendered.
+ */
+public final class ProgressRenderer {
+
+    /**
+     * Bars for each number of filled cells, which are built once.
+     */
+    private static final String[] BARS = buildBars();
+
+    private static final List<ProgressTask> TASKS = new CopyOnWriteArrayList<>();
+
+    @Nullable
+    private static volatile ScheduledExecutorService scheduler;
+
+    private static PrintStream out;
+
+    /**
+     * Lines rendered in the previous frame, which are redrawn in the next frame.
+     */
+    private static int renderedLines;
+
+    private static String lastFrame = "";
+
+    private ProgressRenderer() {
+    }
+
+    /**
+     * Starts a task, which is rendered until it is closed.
+     *
+     * @param message message of the task
+     * @param total   total number of steps, 0 if it is unknown
+     * @return task
+     */
+    public static ProgressTask start(String message, long total) {
+        ProgressTask task = new ProgressTask(message, total);
+        if (scheduler != null) TASKS.add(task);
+
+        return task;
+    }
+
+    /**
+     * Starts rendering to the stream.
+     */
+    public static synchronized void enable(PrintStream stream) {
+        if (scheduler != null) return;
+
+        out = stream;
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress-renderer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = TimeUnit.SECONDS.toMillis(1) / PROGRESS_FRAMES_PER_SECOND;
+        executor.scheduleAtFixedRate(ProgressRenderer::render, period, period, TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    /**
+     * Renders the last frame and stops rendering.
+     */
+    public static synchronized void disable() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) return;
+
+        scheduler = null;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        render();
+        TASKS.clear();
+        renderedLines = 0;
+        lastFrame = "";
+    }
+
+    private static synchronized void render() {
+        if (TASKS.isEmpty()) return;
+
+        // Finished tasks are drawn first, so their lines are left above the next frame.
+        List<ProgressTask> finished = new ArrayList<>();
+        List<ProgressTask> running = new ArrayList<>();
+        for (ProgressTask task : TASKS) {
+            (task.isFinished() ? finished : running).add(task);
+        }
+
+        StringBuilder frame = new StringBuilder();
+        for (ProgressTask task : finished) {
+            appendLine(frame, task);
+        }
+        for (ProgressTask task : running) {
+            appendLine(frame, task);
+        }
+
+        String current = frame.toString();
+        if (finished.isEmpty() && current.equals(lastFrame)) return;
+
+        // Moves cursor to the first line of the previous frame and redraws lines.
+        StringBuilder sb = new StringBuilder(current.length() + 8);
+        if (renderedLines > 0) sb.append(Terminal.CSI).append(renderedLines).append('F');
+        sb.append(current);
+        out.print(sb);
+        out.flush();
+
+        TASKS.removeAll(finished);
+        renderedLines = running.size();
+        lastFrame = current;
+    }
+
+    private static void appendLine(StringBuilder sb, ProgressTask task) {
+        long done = task.getDone();
+        long total = task.getTotal();
+
+        sb.append(Terminal.CSI).append("2K");
+        if (total > 0) {
+            int filled = (int) (Math.min(done, total) * PROGRESS_BAR_LENGTH / total);
+            sb.append(BARS[filled]).append(task.getMessage())
+                    .append("... (").append(done).append('/').append(total).append(")\n");
+        } else {
+            sb.append(' ').append(task.getMessage()).append("... (").append(done).append(")\n");
+        }
+    }
+
+    private static String[] buildBars() {
+        String[] bars = new String[PROGRESS_BAR_LENGTH + 1];
+        for (int filled = 0; filled <= PROGRESS_BAR_LENGTH; filled++) {
+            StringBuilder sb = new StringBuilder(" |");
+            sb.append(Terminal.CSI).append("42m");
+            for (int i = 0; i < filled; i++) sb.append(' ');
+            sb.append(Terminal.CSI).append("47m");
+            for (int i = filled; i < PROGRESS_BAR_LENGTH; i++) sb.append(' ');
+            sb.append(Terminal.CSI).append("0m| ");
+            bars[filled] = sb.toString();
+        }
+
+        return bars;
+    }
+
+}
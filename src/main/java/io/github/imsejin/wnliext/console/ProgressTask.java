@@ -0,0 +1,63 @@
+package io.github.imsejin.wnliext.console;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Progress task
+ *
+ * <p> Progress of a task, which can be stepped from multiple threads without contention.
+ * It is rendered by {@link ProgressRenderer} until it is closed.
+ *
+ * <pre>
+ * try (ProgressTask task = ProgressRenderer.start("Parsing", files.size())) {
+ *     files.parallelStream().forEach(it -&gt; {
+ *         parse(it);
+ *         task.step();
+ *     });
+ * }
+ * </pre>
+ */
+public final class ProgressTask implements AutoCloseable {
+
+    @Getter
+    private final String message;
+
+    /**
+     * Total number of steps, if it is 0, total is unknown.
+     */
+    @Getter
+    private final long total;
+
+    private final LongAdder done = new LongAdder();
+
+    private volatile boolean finished;
+
+    ProgressTask(String message, long total) {
+        this.message = message;
+        this.total = total;
+    }
+
+    public void step() {
+        this.done.increment();
+    }
+
+    public void step(long steps) {
+        this.done.add(steps);
+    }
+
+    public long getDone() {
+        return this.done.sum();
+    }
+
+    public boolean isFinished() {
+        return this.finished;
+    }
+
+    @Override
+    public void close() {
+        this.finished = true;
+    }
+
+}
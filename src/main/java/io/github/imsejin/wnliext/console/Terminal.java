@@ -0,0 +1,73 @@
+package io.github.imsejin.wnliext.console;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Terminal
+ *
+ * <p> Controls terminal with ANSI escape sequences, instead of spawning a process such as {@code cmd /c cls}.
+ * On a terminal which doesn't interpret them, such as a dumb terminal or redirected output,
+ * controls are ignored and texts are printed without colors.
+ *
+ * <p> Detection can be overridden with system property {@code wnliext.ansi}, which is {@code true} or {@code false}.
+ */
+public final class Terminal {
+
+    /**
+     * Control sequence introducer.
+     */
+    static final String CSI = "\u001B[";
+
+    private static final boolean ANSI = detectAnsi(System.getProperty("wnliext.ansi"),
+            System.console() != null, System.getProperty("os.name", ""), System.getenv());
+
+    private Terminal() {
+    }
+
+    /**
+     * Returns whether the terminal interprets ANSI escape sequences.
+     */
+    public static boolean isAnsi() {
+        return ANSI;
+    }
+
+    /**
+     * Clears the screen and moves cursor to the top left.
+     */
+    public static void clear(PrintStream out) {
+        if (!ANSI) return;
+
+        out.print(CSI + "H" + CSI + "2J" + CSI + "3J");
+        out.flush();
+    }
+
+    /**
+     * Wraps the text with the SGR parameters, such as {@code "1;32"} for bold green,
+     * and resets them after the text.
+     */
+    public static String color(String text, String parameters) {
+        if (!ANSI || text.isEmpty()) return text;
+        return CSI + parameters + 'm' + text + CSI + "0m";
+    }
+
+    static boolean detectAnsi(String override, boolean console, String osName, Map<String, String> env) {
+        if (override != null) return Boolean.parseBoolean(override);
+
+        // Output is redirected to a file or pipe.
+        if (!console) return false;
+
+        String term = env.get("TERM");
+        if ("dumb".equals(term)) return false;
+
+        // Legacy Windows console doesn't interpret them, but Windows Terminal, ConEmu and mintty do.
+        if (osName.toLowerCase(Locale.ROOT).startsWith("windows")) {
+            return env.containsKey("WT_SESSION") || env.containsKey("ANSICON")
+                    || "ON".equalsIgnoreCase(env.get("ConEmuANSI")) || term != null;
+        }
+
+        return true;
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.github.imsejin.wnliext.excel;
+
+import io.github.imsejin.wnliext.file.model.Webtoon;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Creation time merger
+ *
+ * <p> Overwrites creation time of new webtoon with old one. New webtoons are indexed
+ * by platform, title and authors, so each old webtoon is merged in constant time
+ * and it can be fed as soon as it is read.
+ */
+final class CreationTimeMerger implements Consumer<Webtoon> {
+
+    private final int numOfNewWebtoons;
+
+    private final Map<Webtoon, Webtoon> index;
+
+    private final Set<Webtoon> matchedWebtoons = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private int matched;
+
+    private int carriedOver;
+
+    private int removed;
+
+    CreationTimeMerger(List<Webtoon> newList) {
+        this.numOfNewWebtoons = newList.size();
+        this.index = new HashMap<>((int) (newList.size() / 0.75f) + 1);
+
+        // Keeps the first one of duplicated webtoons.
+        for (Webtoon webtoon : newList) {
+            this.index.putIfAbsent(webtoon, webtoon);
+        }
+    }
+
+    @Override
+    public void accept(Webtoon oldThing) {
+        Webtoon newThing = this.index.get(oldThing);
+        if (newThing == null) {
+            this.removed++;
+            return;
+        }
+
+        this.matched++;
+        this.matchedWebtoons.add(newThing);
+
+        if (oldThing.getCreationTime().isEqual(newThing.getCreationTime())) return;
+        newThing.setCreationTime(oldThing.getCreationTime());
+        this.carriedOver++;
+    }
+
+    MergeReport getReport() {
+        return new MergeReport(this.matched, this.carriedOver,
+                this.numOfNewWebtoons - this.matchedWebtoons.size(), this.removed);
+    }
+
+}
@@ -1,20 +1,24 @@
 package io.github.imsejin.wnliext.excel;
 
-import com.github.javaxcel.factory.ExcelReaderFactory;
-import com.github.javaxcel.factory.ExcelWriterFactory;
 import io.github.imsejin.common.util.DateTimeUtils;
+import io.github.imsejin.wnliext.common.ApplicationOptions;
+import io.github.imsejin.wnliext.common.OutputMode;
+import io.github.imsejin.wnliext.common.instrument.Instrumentation;
+import io.github.imsejin.wnliext.common.instrument.Stage;
+import io.github.imsejin.wnliext.common.jfr.WorkbookReadEvent;
+import io.github.imsejin.wnliext.common.jfr.WorkbookWriteEvent;
 import io.github.imsejin.wnliext.common.util.GeneralUtils;
+import io.github.imsejin.wnliext.file.WebtoonSnapshot;
 import io.github.imsejin.wnliext.file.model.Webtoon;
 import lombok.SneakyThrows;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.util.List;
-import java.util.Optional;
 
 import static io.github.imsejin.wnliext.common.Constants.file.EXCEL_FILE_PREFIX;
 
@@ -27,21 +31,58 @@ public final class ExcelExecutor {
     }
 
     public static void create(List<Webtoon> webtoons, String pathname) {
+        create(webtoons, pathname, ApplicationOptions.builder().pathname(pathname).build());
+    }
+
+    public static void create(List<Webtoon> webtoons, String pathname, ApplicationOptions options) {
         File file = createFile(pathname, webtoons);
-        System.out.printf("%nCannot find a list.%nCreate a new list: '%s'%n", file);
+        if (options.getOutput() != OutputMode.QUIET) {
+            System.out.printf("%nCannot find a list.%nCreate a new list: '%s'%n", file);
+        }
 
-        write(file, webtoons);
+        write(file, webtoons, options);
     }
 
     public static void update(List<Webtoon> webtoons, String pathname, File file) {
-        // Overwrites creation time of new item with old item.
-        List<Webtoon> oldList = read(file);
-        overwriteDateTime(oldList, webtoons);
+        update(webtoons, pathname, file, ApplicationOptions.builder().pathname(pathname).build());
+    }
+
+    public static void update(List<Webtoon> webtoons, String pathname, File file, ApplicationOptions options) {
+        // Overwrites creation time of new item with old item while reading old items.
+        // Snapshot of the list is preferred, because it loads much faster than the list.
+        // Merging is streamed while reading, so they are recorded as one stage.
+        CreationTimeMerger merger = new CreationTimeMerger(webtoons);
+        MergeReport report;
+        try (Stage stage = Instrumentation.start("read")) {
+            WorkbookReadEvent event = new WorkbookReadEvent();
+            event.begin();
+
+            List<Webtoon> snapshot = WebtoonSnapshot.read(file);
+            if (snapshot == null) {
+                WebtoonListReader.read(file, merger);
+            } else {
+                snapshot.forEach(merger);
+            }
+            report = merger.getReport();
+            stage.count(report.getMatched() + report.getRemoved());
+
+            if (event.shouldCommit()) {
+                event.file = file.getPath();
+                event.rows = report.getMatched() + report.getRemoved();
+                event.bytes = snapshot == null ? file.length() : WebtoonSnapshot.fileOf(file).length();
+                event.snapshot = snapshot != null;
+                event.commit();
+            }
+        }
 
         File newFile = createFile(pathname, webtoons);
-        System.out.printf("%nFound the latest list: '%s'%nCreate a new list: '%s'%n", file, newFile);
+        if (options.getOutput() != OutputMode.QUIET) {
+            System.out.printf("%nFound the latest list: '%s'%nCreate a new list: '%s'%n", file, newFile);
+            System.out.printf("Matched: %,d (carried over: %,d), new: %,d, removed: %,d%n",
+                    report.getMatched(), report.getCarriedOver(), report.getAdded(), report.getRemoved());
+        }
 
-        write(newFile, webtoons);
+        write(newFile, webtoons, options);
     }
 
     private static File createFile(String pathname, List<Webtoon> webtoons) {
@@ -52,23 +93,60 @@ public final class ExcelExecutor {
         return new File(pathname, filename);
     }
 
+    /**
+     * Writes webtoons to the file and its snapshot.
+     *
+     * <p> If streaming is enabled, rows out of the window are flushed into temporary files,
+     * so that memory usage doesn't grow with the number of webtoons.
+     * Sheets per platform are filled in parallel into their own temporary files,
+     * otherwise they are filled sequentially.
+     */
     @SneakyThrows
-    private static void write(File file, List<Webtoon> webtoons) {
-        OutputStream out = new FileOutputStream(file);
-        Workbook newWorkbook = new XSSFWorkbook();
-
-        ExcelWriterFactory.create(newWorkbook, Webtoon.class)
-                .sheetName("Webtoons")
-                .unrotate()
-                .autoResizeColumns()
-                .hideExtraColumns()
-                .write(out, webtoons);
-    }
+    private static void write(File file, List<Webtoon> webtoons, ApplicationOptions options) {
+        Workbook newWorkbook = options.isStreaming()
+                ? new SXSSFWorkbook(null, options.getRowWindow(), options.isCompressTempFiles())
+                : new XSSFWorkbook();
+
+        WorkbookWriteEvent event = new WorkbookWriteEvent();
+        event.begin();
+
+        try (Stage stage = Instrumentation.start("write");
+             OutputStream out = new FileOutputStream(file)) {
+            WebtoonWriter<Workbook> writer = new WebtoonWriter<>(newWorkbook)
+                    .estimateColumnWidths()
+                    .hideExtraColumns();
+            if (options.isStatistics()) writer.statistics();
+            if (options.isSheetPerPlatform()) {
+                writer.sheetPerPlatform(options.getParallelism());
+
+                // Cells of non-streaming workbook share the table of strings, so the sheets are filled one by one.
+                if (!options.isStreaming() && options.getParallelism() > 1 && options.getOutput() != OutputMode.QUIET) {
+                    System.out.println("Sheets per platform are filled sequentially without streaming.");
+                }
+            }
+
+            writer.sheetName(options.isSheetPerPlatform() ? "All" : "Webtoons")
+                    .unrotate()
+                    .write(out, webtoons);
+            stage.count(webtoons.size());
+        } finally {
+            // Removes temporary files of the streaming workbook.
+            if (newWorkbook instanceof SXSSFWorkbook) ((SXSSFWorkbook) newWorkbook).dispose();
+            newWorkbook.close();
+        }
 
-    @SneakyThrows
-    private static List<Webtoon> read(File file) {
-        Workbook oldWorkbook = new XSSFWorkbook(new FileInputStream(file));
-        return ExcelReaderFactory.create(oldWorkbook, Webtoon.class).read();
+        if (event.shouldCommit()) {
+            event.file = file.getPath();
+            event.rows = webtoons.size();
+            event.bytes = file.length();
+            event.streaming = options.isStreaming();
+            event.commit();
+        }
+
+        try (Stage stage = Instrumentation.start("snapshot")) {
+            WebtoonSnapshot.write(file, webtoons);
+            stage.count(webtoons.size());
+        }
     }
 
     /**
@@ -76,15 +154,12 @@ public final class ExcelExecutor {
      *
      * @param oldList old webtoon list
      * @param newList new webtoon list
+     * @return report of merge
      */
-    private static void overwriteDateTime(List<Webtoon> oldList, List<Webtoon> newList) {
-        for (Webtoon oldThing : oldList) {
-            Optional<Webtoon> maybeNewThing = newList.stream().filter(oldThing::equals).findFirst();
-            maybeNewThing.ifPresent(it -> {
-                if (oldThing.getCreationTime().isEqual(it.getCreationTime())) return;
-                it.setCreationTime(oldThing.getCreationTime());
-            });
-        }
+    static MergeReport overwriteDateTime(List<Webtoon> oldList, List<Webtoon> newList) {
+        CreationTimeMerger merger = new CreationTimeMerger(newList);
+        oldList.forEach(merger);
+        return merger.getReport();
     }
 
 }
@@ -0,0 +1,37 @@
+package io.github.imsejin.wnliext.excel;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Merge report
+ *
+ * <p> Result of merging the previous webtoon list into the new one.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class MergeReport {
+
+    /**
+     * Number of old webtoons that are found in the new list.
+     */
+    private final int matched;
+
+    /**
+     * Number of old webtoons whose creation time is carried over to the new list.
+     */
+    private final int carriedOver;
+
+    /**
+     * Number of new webtoons that are not in the previous list.
+     */
+    private final int added;
+
+    /**
+     * Number of old webtoons that are not in the new list.
+     */
+    private final int removed;
+
+}
@@ -0,0 +1,25 @@
+package io.github.imsejin.wnliext.excel;
+
+import com.github.javaxcel.styler.ExcelStyleConfig;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+
+/**
+ * Sheet column
+ *
+ * <p> Column of webtoon list, which converts webtoon into cell value.
+ *
+ * @see WebtoonColumn
+ * @see StatisticsColumn
+ */
+interface SheetColumn {
+
+    String getHeaderName();
+
+    ExcelStyleConfig getBodyStyle();
+
+    /**
+     * Converts the property of webtoon into cell value.
+     */
+    String write(Webtoon webtoon);
+
+}
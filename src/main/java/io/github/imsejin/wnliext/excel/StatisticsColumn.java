@@ -0,0 +1,78 @@
+package io.github.imsejin.wnliext.excel;
+
+import com.github.javaxcel.styler.ExcelStyleConfig;
+import io.github.imsejin.wnliext.excel.config.RightBodyStyleConfig;
+import io.github.imsejin.wnliext.file.model.ArchiveStatistics;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static io.github.imsejin.wnliext.excel.WebtoonColumn.formatComma;
+
+/**
+ * Statistics column
+ *
+ * <p> Optional columns of webtoon list, which follow {@link WebtoonColumn}.
+ * They are converted from {@link ArchiveStatistics} of webtoon, and are marked as {@value #NOT_AVAILABLE}
+ * if it doesn't have one, which means its file isn't a zip file or can't be read.
+ * They are not read, because statistics are read from webtoon files again.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StatisticsColumn implements SheetColumn {
+
+    EPISODES("EPISODES") {
+        @Override
+        String write(ArchiveStatistics statistics) {
+            return formatComma(statistics.getEpisodes());
+        }
+    },
+
+    IMAGES("IMAGES") {
+        @Override
+        String write(ArchiveStatistics statistics) {
+            return formatComma(statistics.getImages());
+        }
+    },
+
+    UNCOMPRESSED_SIZE("UNCOMPRESSED_SIZE(byte)") {
+        @Override
+        String write(ArchiveStatistics statistics) {
+            return formatComma(statistics.getUncompressedSize());
+        }
+    },
+
+    COMPRESSION_RATIO("COMPRESSION_RATIO") {
+        @Override
+        String write(ArchiveStatistics statistics) {
+            double ratio = statistics.getCompressionRatio();
+            return Double.isNaN(ratio) ? "" : formatPercent(ratio);
+        }
+    };
+
+    /**
+     * Value of the columns for webtoon without statistics, which is distinguished from empty archive.
+     */
+    static final String NOT_AVAILABLE = "N/A";
+
+    private final String headerName;
+
+    private final ExcelStyleConfig bodyStyle = new RightBodyStyleConfig();
+
+    @Override
+    public String write(Webtoon webtoon) {
+        ArchiveStatistics statistics = webtoon.getStatistics();
+        return statistics == null ? NOT_AVAILABLE : write(statistics);
+    }
+
+    abstract String write(ArchiveStatistics statistics);
+
+    /**
+     * Formats ratio as percentage with a decimal place like "97.3%".
+     */
+    static String formatPercent(double ratio) {
+        long permille = Math.round(ratio * 1000);
+        return permille / 10 + "." + permille % 10 + '%';
+    }
+
+}
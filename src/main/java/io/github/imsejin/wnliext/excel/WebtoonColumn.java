@@ -0,0 +1,148 @@
+package io.github.imsejin.wnliext.excel;
+
+import com.github.javaxcel.styler.ExcelStyleConfig;
+import io.github.imsejin.wnliext.excel.config.BodyStyleConfig;
+import io.github.imsejin.wnliext.excel.config.CenterBodyStyleConfig;
+import io.github.imsejin.wnliext.excel.config.RightBodyStyleConfig;
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import static io.github.imsejin.wnliext.file.constant.Delimiter.AUTHOR;
+
+/**
+ * Webtoon column
+ *
+ * <p> Columns of webtoon list in order, with converters between property of {@link Webtoon} and cell value.
+ * They are plain Java code which is compiled once, instead of SpEL expressions
+ * which are evaluated for every cell.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum WebtoonColumn implements SheetColumn {
+
+    PLATFORM("PLATFORM", new BodyStyleConfig()) {
+        @Override
+        public String write(Webtoon webtoon) {
+            return webtoon.getPlatform().getCodeName();
+        }
+
+        @Override
+        public void read(Webtoon webtoon, String value) {
+            webtoon.setPlatform(Platform.fromCodeName(value));
+        }
+    },
+
+    TITLE("TITLE", new BodyStyleConfig()) {
+        @Override
+        public String write(Webtoon webtoon) {
+            return webtoon.getTitle();
+        }
+
+        @Override
+        public void read(Webtoon webtoon, String value) {
+            webtoon.setTitle(value);
+        }
+    },
+
+    AUTHORS("AUTHORS", new BodyStyleConfig()) {
+        @Override
+        public String write(Webtoon webtoon) {
+            return String.join(AUTHOR.getValue(), webtoon.getAuthors());
+        }
+
+        @Override
+        public void read(Webtoon webtoon, String value) {
+            webtoon.setAuthors(Arrays.asList(AUTHOR_PATTERN.split(value)));
+        }
+    },
+
+    COMPLETED("COMPLETED", new CenterBodyStyleConfig()) {
+        @Override
+        public String write(Webtoon webtoon) {
+            return webtoon.isCompleted() ? "TRUE" : "FALSE";
+        }
+
+        @Override
+        public void read(Webtoon webtoon, String value) {
+            webtoon.setCompleted("TRUE".equalsIgnoreCase(value));
+        }
+    },
+
+    IMPORTATION_DATE("IMPORTATION_DATE", new CenterBodyStyleConfig()) {
+        @Override
+        public String write(Webtoon webtoon) {
+            return DATE_TIME_FORMATTER.format(webtoon.getCreationTime());
+        }
+
+        @Override
+        public void read(Webtoon webtoon, String value) {
+            webtoon.setCreationTime(LocalDateTime.parse(value, DATE_TIME_FORMATTER));
+        }
+    },
+
+    FILE_SIZE("FILE_SIZE(byte)", new RightBodyStyleConfig()) {
+        @Override
+        public String write(Webtoon webtoon) {
+            return formatComma(webtoon.getSize());
+        }
+
+        @Override
+        public void read(Webtoon webtoon, String value) {
+            webtoon.setSize(parseComma(value));
+        }
+    };
+
+    private static final Pattern AUTHOR_PATTERN = Pattern.compile(Pattern.quote(AUTHOR.getValue()));
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final String headerName;
+
+    private final ExcelStyleConfig bodyStyle;
+
+    /**
+     * Converts the property of webtoon into cell value.
+     */
+    @Override
+    public abstract String write(Webtoon webtoon);
+
+    /**
+     * Sets the property of webtoon converted from cell value.
+     */
+    public abstract void read(Webtoon webtoon, String value);
+
+    /**
+     * Formats number with grouping separators like "1,234,567".
+     */
+    static String formatComma(long number) {
+        if (number > -1000 && number < 1000) return Long.toString(number);
+
+        String digits = Long.toString(Math.abs(number));
+        int length = digits.length();
+        StringBuilder sb = new StringBuilder(length + length / 3 + 1);
+        if (number < 0) sb.append('-');
+
+        int head = length % 3 == 0 ? 3 : length % 3;
+        sb.append(digits, 0, head);
+        for (int i = head; i < length; i += 3) {
+            sb.append(',').append(digits, i, i + 3);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Parses number with grouping separators like "1,234,567".
+     */
+    static long parseComma(String value) {
+        return Long.parseLong(value.indexOf(',') < 0 ? value : value.replace(",", ""));
+    }
+
+}
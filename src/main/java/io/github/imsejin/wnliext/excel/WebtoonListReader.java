@@ -0,0 +1,147 @@
+package io.github.imsejin.wnliext.excel;
+
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.SneakyThrows;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Webtoon list reader
+ *
+ * <p> Reads a webtoon list with SAX parser instead of loading the whole workbook.
+ * Only platform, title, authors and importation date are materialized,
+ * and each row is handed over as soon as it is parsed.
+ */
+public final class WebtoonListReader {
+
+    /**
+     * Key columns, which are materialized.
+     */
+    private static final WebtoonColumn[] KEY_COLUMNS = {
+            WebtoonColumn.PLATFORM, WebtoonColumn.TITLE, WebtoonColumn.AUTHORS, WebtoonColumn.IMPORTATION_DATE};
+
+    private static final Set<String> PLATFORM_SHEET_NAMES = Arrays.stream(Platform.values())
+            .map(Platform::getCodeName).collect(toSet());
+
+    private WebtoonListReader() {
+    }
+
+    /**
+     * Reads rows of all sheets in the webtoon list, except sheets per platform.
+     *
+     * @param file     webtoon list
+     * @param consumer consumer of webtoon that has platform, title, authors and creation time
+     */
+    @SneakyThrows
+    public static void read(File file, Consumer<Webtoon> consumer) {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    // Rows of sheets per platform are in the sheet of all webtoons too.
+                    if (PLATFORM_SHEET_NAMES.contains(sheets.getSheetName())) continue;
+
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), sharedStrings,
+                            new RowHandler(consumer), false));
+                    parser.parse(new InputSource(sheet));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns 0-based column index of the cell reference like "AB12".
+     */
+    private static int toColumnIndex(String cellReference) {
+        int column = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (c < 'A' || c > 'Z') break;
+            column = column * 26 + (c - 'A' + 1);
+        }
+
+        return column - 1;
+    }
+
+    private static class RowHandler implements SheetContentsHandler {
+
+        private final Consumer<Webtoon> consumer;
+
+        /**
+         * Column indexes of key columns, which are found in header.
+         */
+        private final int[] columnIndexes = new int[KEY_COLUMNS.length];
+
+        /**
+         * Values of key columns in the current row.
+         */
+        private final String[] values = new String[KEY_COLUMNS.length];
+
+        private boolean header;
+
+        private RowHandler(Consumer<Webtoon> consumer) {
+            this.consumer = consumer;
+            Arrays.fill(this.columnIndexes, -1);
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            this.header = rowNum == 0;
+            Arrays.fill(this.values, null);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int columnIndex = toColumnIndex(cellReference);
+
+            for (int i = 0; i < KEY_COLUMNS.length; i++) {
+                if (this.header) {
+                    if (KEY_COLUMNS[i].getHeaderName().equals(formattedValue)) this.columnIndexes[i] = columnIndex;
+                } else if (this.columnIndexes[i] == columnIndex) {
+                    this.values[i] = formattedValue;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (this.header) return;
+
+            // Skips the row which doesn't have all of key columns.
+            for (String value : this.values) {
+                if (value == null || value.isEmpty()) return;
+            }
+
+            Webtoon webtoon = new Webtoon();
+            for (int i = 0; i < KEY_COLUMNS.length; i++) {
+                KEY_COLUMNS[i].read(webtoon, this.values[i]);
+            }
+
+            this.consumer.accept(webtoon);
+        }
+
+    }
+
+}
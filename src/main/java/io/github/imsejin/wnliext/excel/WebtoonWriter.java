@@ -0,0 +1,338 @@
+package io.github.imsejin.wnliext.excel;
+
+import com.github.javaxcel.out.AbstractExcelWriter;
+import com.github.javaxcel.styler.ExcelStyleConfig;
+import com.github.javaxcel.util.ExcelUtils;
+import io.github.imsejin.wnliext.excel.config.HeaderStyleConfig;
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.SneakyThrows;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTCol;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTCols;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorksheet;
+
+import javax.annotation.Nullable;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Webtoon writer
+ *
+ * <p> Writes webtoons with {@link WebtoonColumn}, instead of reading fields
+ * by reflection and evaluating expressions for every cell.
+ *
+ * <p> Columns can be sized by {@link #estimateColumnWidths()}, which counts characters while writing
+ * instead of measuring every cell with AWT font metrics like {@link #autoResizeColumns()}.
+ * Extra columns are hidden as one range of columns, instead of hiding them one by one.
+ *
+ * <p> With {@link #statistics()}, columns of {@link StatisticsColumn} follow the columns of webtoon.
+ *
+ * <p> With {@link #sheetPerPlatform(int)}, a sheet for each platform follows the sheet of all webtoons.
+ * On a streaming workbook, the sheets are filled in parallel, because rows of each sheet
+ * are flushed into its own temporary file, and they are merged into a package when it is saved.
+ *
+ * @param <W> type of workbook
+ */
+public final class WebtoonWriter<W extends Workbook> extends AbstractExcelWriter<W, Webtoon> {
+
+    /**
+     * Max width of column in characters, which is limited by Excel.
+     */
+    private static final int MAX_COLUMN_WIDTH = 255;
+
+    /**
+     * Characters padded to the widest cell, which makes up for borders and margins.
+     */
+    private static final int WIDTH_PADDING = 2;
+
+    private SheetColumn[] columns = WebtoonColumn.values();
+
+    private boolean willEstimateWidths;
+
+    private boolean willHideExtraColumns;
+
+    /**
+     * Number of threads filling sheets per platform, or 0 if they are not written.
+     */
+    private int platformSheetParallelism;
+
+    public WebtoonWriter(W workbook) {
+        super(workbook);
+        headerStyle(new HeaderStyleConfig());
+    }
+
+    /**
+     * Adds columns of statistics after the columns of webtoon.
+     */
+    public WebtoonWriter<W> statistics() {
+        WebtoonColumn[] webtoonColumns = WebtoonColumn.values();
+        StatisticsColumn[] statisticsColumns = StatisticsColumn.values();
+
+        SheetColumn[] columns = new SheetColumn[webtoonColumns.length + statisticsColumns.length];
+        System.arraycopy(webtoonColumns, 0, columns, 0, webtoonColumns.length);
+        System.arraycopy(statisticsColumns, 0, columns, webtoonColumns.length, statisticsColumns.length);
+        this.columns = columns;
+
+        return this;
+    }
+
+    /**
+     * Sizes columns by the widest cell in characters, which are counted while writing.
+     * East Asian wide characters such as Hangul are counted as two.
+     */
+    public WebtoonWriter<W> estimateColumnWidths() {
+        this.willEstimateWidths = true;
+        return this;
+    }
+
+    /**
+     * Adds a sheet for each platform, named after its code name, after the sheet of all webtoons.
+     * This cannot be used with rotation.
+     *
+     * @param parallelism number of threads filling the sheets on a streaming workbook
+     */
+    public WebtoonWriter<W> sheetPerPlatform(int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+
+        this.platformSheetParallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public WebtoonWriter<W> hideExtraColumns() {
+        this.willHideExtraColumns = true;
+        return this;
+    }
+
+    @Override
+    protected void ifHeaderNamesAreEmpty(List<String> headerNames) {
+        for (SheetColumn column : this.columns) {
+            headerNames.add(column.getHeaderName());
+        }
+    }
+
+    @Override
+    protected void beforeWrite(OutputStream out, List<Webtoon> list) {
+        // Sheets per platform would be created again for each rotated sheet.
+        if (this.platformSheetParallelism > 0 && this.rotated) {
+            throw new IllegalStateException("Sheets per platform cannot be rotated; call unrotate()");
+        }
+
+        // Body styles are created for the columns, unless they are specified.
+        if (this.bodyStyles == null) {
+            ExcelStyleConfig[] bodyStyles = new ExcelStyleConfig[this.columns.length];
+            for (int i = 0; i < this.columns.length; i++) {
+                bodyStyles[i] = this.columns[i].getBodyStyle();
+            }
+            bodyStyles(bodyStyles);
+        }
+
+        super.beforeWrite(out, list);
+    }
+
+    @Override
+    protected void writeToSheet(Sheet sheet, List<Webtoon> list) {
+        if (this.platformSheetParallelism == 0) {
+            layOutColumns(sheet, writeRows(sheet, list));
+            return;
+        }
+
+        List<Sheet> sheets = new ArrayList<>();
+        List<List<Webtoon>> partitions = new ArrayList<>();
+        sheets.add(sheet);
+        partitions.add(list);
+
+        // Sheets are created in the order of platforms on this thread, because workbook is not thread-safe.
+        Map<Platform, List<Webtoon>> platforms = new EnumMap<>(Platform.class);
+        for (Webtoon webtoon : list) {
+            platforms.computeIfAbsent(webtoon.getPlatform(), it -> new ArrayList<>()).add(webtoon);
+        }
+        platforms.forEach((platform, webtoons) -> {
+            Sheet platformSheet = this.workbook.createSheet(platform.getCodeName());
+            writeHeader(platformSheet);
+            sheets.add(platformSheet);
+            partitions.add(webtoons);
+        });
+
+        List<int[]> widths = fillSheets(sheets, partitions);
+        for (int i = 0; i < sheets.size(); i++) {
+            layOutColumns(sheets.get(i), widths.get(i));
+        }
+    }
+
+    @Override
+    protected int getNumOfColumns() {
+        return this.columns.length;
+    }
+
+    /**
+     * Fills the sheets with rows of the partitions, in parallel if they are streamed.
+     *
+     * @return estimated widths of each sheet
+     */
+    @SneakyThrows
+    private List<int[]> fillSheets(List<Sheet> sheets, List<List<Webtoon>> partitions) {
+        List<int[]> widths = new ArrayList<>(sheets.size());
+        int parallelism = Math.min(this.platformSheetParallelism, sheets.size());
+
+        // Cells of non-streaming workbook share the table of strings, so they are written one by one.
+        if (parallelism == 1 || !(this.workbook instanceof SXSSFWorkbook)) {
+            for (int i = 0; i < sheets.size(); i++) {
+                widths.add(writeRows(sheets.get(i), partitions.get(i)));
+            }
+            return widths;
+        }
+
+        List<Callable<int[]>> tasks = new ArrayList<>(sheets.size());
+        for (int i = 0; i < sheets.size(); i++) {
+            Sheet sheet = sheets.get(i);
+            List<Webtoon> partition = partitions.get(i);
+            tasks.add(() -> writeRows(sheet, partition));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<int[]> future : pool.invokeAll(tasks)) {
+                widths.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+
+        return widths;
+    }
+
+    /**
+     * Writes rows of the webtoons.
+     *
+     * @return widths of columns in characters, or null if they are not estimated
+     */
+    @Nullable
+    private int[] writeRows(Sheet sheet, List<Webtoon> list) {
+        SheetColumn[] columns = this.columns;
+        CellStyle[] styles = this.bodyStyles;
+        int[] widths = this.willEstimateWidths ? headerWidths() : null;
+
+        for (int i = 0; i < list.size(); i++) {
+            Webtoon webtoon = list.get(i);
+            Row row = sheet.createRow(i + 1);
+
+            for (int j = 0; j < columns.length; j++) {
+                String value = columns[j].write(webtoon);
+                Cell cell = row.createCell(j);
+                cell.setCellValue(value);
+                cell.setCellStyle(styles[j]);
+
+                if (widths != null) widths[j] = Math.max(widths[j], displayWidth(value));
+            }
+        }
+
+        return widths;
+    }
+
+    /**
+     * Applies column widths and hidden columns once, after all rows are written.
+     */
+    private void layOutColumns(Sheet sheet, @Nullable int[] widths) {
+        if (widths != null) {
+            for (int j = 0; j < this.columns.length; j++) {
+                int width = Math.min(widths[j] + WIDTH_PADDING, MAX_COLUMN_WIDTH);
+                sheet.setColumnWidth(j, width * 256);
+            }
+        }
+        if (this.willHideExtraColumns) hideColumnsFrom(sheet, this.columns.length);
+    }
+
+    /**
+     * Writes header as javaxcel does to the first sheet.
+     */
+    private void writeHeader(Sheet sheet) {
+        Row row = sheet.createRow(0);
+        for (int j = 0; j < this.headerNames.size(); j++) {
+            Cell cell = row.createCell(j);
+            cell.setCellValue(this.headerNames.get(j));
+            cell.setCellStyle(this.headerStyles.length == 1 ? this.headerStyles[0] : this.headerStyles[j]);
+        }
+    }
+
+    /**
+     * Returns number of characters in the text, where East Asian wide characters are counted as two.
+     */
+    static int displayWidth(String text) {
+        int width = text.length();
+        for (int i = 0; i < text.length(); i++) {
+            if (isWide(text.charAt(i))) width++;
+        }
+
+        return width;
+    }
+
+    private static boolean isWide(char c) {
+        if (c < 0x1100) return false;
+
+        return c <= 0x115F                      // Hangul Jamo
+                || (c >= 0x2E80 && c <= 0xA4CF) // CJK radicals, Kana, CJK ideographs, Yi
+                || (c >= 0xAC00 && c <= 0xD7A3) // Hangul syllables
+                || (c >= 0xF900 && c <= 0xFAFF) // CJK compatibility ideographs
+                || (c >= 0xFE30 && c <= 0xFE4F) // CJK compatibility forms
+                || (c >= 0xFF00 && c <= 0xFF60) // Fullwidth forms
+                || (c >= 0xFFE0 && c <= 0xFFE6);
+    }
+
+    /**
+     * Returns widths of the header names, which are larger and bolder than body.
+     */
+    private int[] headerWidths() {
+        int[] widths = new int[this.columns.length];
+        for (int j = 0; j < this.columns.length; j++) {
+            int width = displayWidth(this.headerNames.get(j));
+            widths[j] = width + width / 3;
+        }
+
+        return widths;
+    }
+
+    /**
+     * Hides columns from the index to the last as one {@code <col>} element.
+     */
+    private void hideColumnsFrom(Sheet sheet, int columnIndex) {
+        XSSFSheet xssfSheet;
+        if (sheet instanceof XSSFSheet) {
+            xssfSheet = (XSSFSheet) sheet;
+        } else if (sheet instanceof SXSSFSheet) {
+            // Streaming sheet delegates columns to the sheet of its backing workbook.
+            XSSFWorkbook backing = ((SXSSFWorkbook) this.workbook).getXSSFWorkbook();
+            xssfSheet = backing.getSheetAt(this.workbook.getSheetIndex(sheet));
+        } else {
+            ExcelUtils.hideExtraColumns(sheet, columnIndex);
+            return;
+        }
+
+        CTWorksheet worksheet = xssfSheet.getCTWorksheet();
+        CTCols cols = worksheet.sizeOfColsArray() == 0 ? worksheet.addNewCols() : worksheet.getColsArray(0);
+        CTCol col = cols.addNewCol();
+        col.setMin(columnIndex + 1);
+        col.setMax(SpreadsheetVersion.EXCEL2007.getMaxColumns());
+        col.setHidden(true);
+    }
+
+}
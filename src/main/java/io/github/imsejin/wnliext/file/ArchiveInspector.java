@@ -0,0 +1,84 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.common.util.ZipCentralDirectory;
+import io.github.imsejin.wnliext.common.util.ZipUtils;
+import io.github.imsejin.wnliext.file.model.ArchiveStatistics;
+import io.github.imsejin.wnliext.file.model.ScannedFile;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Archive inspector
+ *
+ * <p> Tells archives from scanned files and reads statistics of their entries
+ * from the central directory, without extracting them.
+ */
+final class ArchiveInspector {
+
+    private static final List<String> IMAGE_EXTENSIONS = Arrays.asList("avif", "bmp", "gif", "heic", "jpeg", "jpg", "png", "webp");
+
+    private ArchiveInspector() {
+    }
+
+    /**
+     * Returns whether the file is an archive, with its attributes which are already read,
+     * not to access the file system again.
+     */
+    static boolean isZip(ScannedFile file) {
+        if (file == null || !file.getAttributes().isRegularFile()) return false;
+
+        return ZipUtils.isZipExtension(file.getExtension());
+    }
+
+    /**
+     * Returns statistics of entries in the archive, counting each top-level directory as an episode.
+     *
+     * <p> Only zip format is supported. This can be called by multiple threads,
+     * each of which reuses its own central directory.
+     *
+     * @return statistics, or null if the file isn't a zip file or cannot be read
+     */
+    @Nullable
+    static ArchiveStatistics getStatistics(File zipFile) {
+        ZipCentralDirectory directory = ZipUtils.getCentralDirectory(zipFile);
+        if (directory == null) return null;
+
+        Set<String> episodes = new HashSet<>();
+        int images = 0;
+        long uncompressedSize = 0;
+        long compressedSize = 0;
+        for (int i = 0; i < directory.size(); i++) {
+            String name = directory.name(i);
+
+            // Counts names of top-level directories.
+            int index = name.indexOf('/');
+            if (index == -1) index = name.indexOf('\\');
+            if (index > 0) episodes.add(name.substring(0, index));
+
+            if (directory.isDirectory(i)) continue;
+            uncompressedSize += directory.size(i);
+            compressedSize += directory.compressedSize(i);
+            if (isImage(name)) images++;
+        }
+
+        return new ArchiveStatistics(episodes.size(), images, uncompressedSize, compressedSize);
+    }
+
+    private static boolean isImage(String name) {
+        int index = name.lastIndexOf('.');
+        if (index == -1 || index < Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\'))) return false;
+
+        int length = name.length() - index - 1;
+        for (String it : IMAGE_EXTENSIONS) {
+            if (it.length() == length && name.regionMatches(true, index + 1, it, 0, length)) return true;
+        }
+
+        return false;
+    }
+
+}
@@ -0,0 +1,232 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.common.jfr.ScanDirectoryEvent;
+import io.github.imsejin.wnliext.console.ProgressRenderer;
+import io.github.imsejin.wnliext.console.ProgressTask;
+import io.github.imsejin.wnliext.file.model.ScannedFile;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Directory walker
+ *
+ * <p> Scans files in the root directories recursively. Each directory is scanned
+ * by its own {@link RecursiveTask}, so idle threads of {@link ForkJoinPool}
+ * steal the directories which are not scanned yet.
+ *
+ * <p> Files are returned in the order of roots and directory listing,
+ * files in a directory come before files in its subdirectories.
+ */
+final class DirectoryWalker {
+
+    private static final LinkOption[] NO_LINK_OPTIONS = {};
+
+    private static final LinkOption[] NOFOLLOW_LINKS = {LinkOption.NOFOLLOW_LINKS};
+
+    /**
+     * Maximum depth of directories to scan, the entries in root are at depth 1.
+     */
+    private final int maxDepth;
+
+    private final boolean followLinks;
+
+    private final List<PathMatcher> excludes;
+
+    DirectoryWalker(int maxDepth, boolean followLinks, List<String> excludeGlobs) {
+        this.maxDepth = maxDepth;
+        this.followLinks = followLinks;
+        this.excludes = excludeGlobs.stream()
+                .map(it -> FileSystems.getDefault().getPathMatcher("glob:" + it))
+                .collect(toList());
+    }
+
+    /**
+     * Scans files and directories in the roots with the pool.
+     *
+     * @param roots root directories
+     * @param pool  pool which runs the tasks
+     * @return files and directories with their attributes
+     */
+    List<ScannedFile> walk(List<Path> roots, ForkJoinPool pool) {
+        // Directories which are already visited, to avoid cycle of symbolic links.
+        Set<Object> visited = ConcurrentHashMap.newKeySet();
+
+        List<ScannedFile> files = new ArrayList<>();
+        try (ProgressTask progress = ProgressRenderer.start("Scanning directories", 0)) {
+            for (Path root : roots) {
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(root, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    continue;
+                }
+                if (!attributes.isDirectory()) continue;
+
+                files.addAll(pool.invoke(new WalkTask(root, root, attributes, 1, visited, progress)));
+            }
+        }
+
+        return files;
+    }
+
+    /**
+     * Scans files and directories in the subdirectory of the root with the pool.
+     *
+     * @param root  root directory which the subdirectory belongs to
+     * @param dir   subdirectory to scan
+     * @param depth depth of the entries in the subdirectory
+     * @param pool  pool which runs the tasks
+     * @return files and directories with their attributes
+     */
+    List<ScannedFile> walk(Path root, Path dir, int depth, ForkJoinPool pool) {
+        if (depth > this.maxDepth) return new ArrayList<>();
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(dir, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return new ArrayList<>();
+        }
+        if (!attributes.isDirectory()) return new ArrayList<>();
+
+        try (ProgressTask progress = ProgressRenderer.start("Scanning directories", 0)) {
+            return pool.invoke(new WalkTask(root, dir, attributes, depth, ConcurrentHashMap.newKeySet(), progress));
+        }
+    }
+
+    /**
+     * Returns whether the entries in the directory at the depth are scanned.
+     *
+     * @param depth depth of the directory, the entries in root are at depth 1
+     */
+    boolean isScanned(int depth) {
+        return depth < this.maxDepth;
+    }
+
+    /**
+     * Returns whether the path is excluded. The pattern is matched against
+     * both of the path relative to the root and the filename.
+     */
+    boolean isExcluded(Path root, Path path) {
+        if (this.excludes.isEmpty()) return false;
+
+        Path relative = root.relativize(path);
+        Path filename = path.getFileName();
+        for (PathMatcher matcher : this.excludes) {
+            if (matcher.matches(relative) || (filename != null && matcher.matches(filename))) return true;
+        }
+
+        return false;
+    }
+
+    private class WalkTask extends RecursiveTask<List<ScannedFile>> {
+
+        private final Path root;
+
+        private final Path dir;
+
+        private final BasicFileAttributes attributes;
+
+        private final int depth;
+
+        private final Set<Object> visited;
+
+        private final ProgressTask progress;
+
+        private WalkTask(Path root, Path dir, BasicFileAttributes attributes, int depth,
+                         Set<Object> visited, ProgressTask progress) {
+            this.root = root;
+            this.dir = dir;
+            this.attributes = attributes;
+            this.depth = depth;
+            this.visited = visited;
+            this.progress = progress;
+        }
+
+        @Override
+        protected List<ScannedFile> compute() {
+            if (!markVisited()) return new ArrayList<>();
+
+            ScanDirectoryEvent event = new ScanDirectoryEvent();
+            event.begin();
+
+            LinkOption[] options = followLinks ? NO_LINK_OPTIONS : NOFOLLOW_LINKS;
+            List<ScannedFile> files = new ArrayList<>();
+            List<WalkTask> subtasks = new ArrayList<>();
+
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.dir)) {
+                for (Path path : stream) {
+                    if (isExcluded(this.root, path)) continue;
+
+                    BasicFileAttributes attributes;
+                    try {
+                        attributes = Files.readAttributes(path, BasicFileAttributes.class, options);
+                    } catch (IOException e) {
+                        // Skips the entry which is removed or inaccessible while scanning.
+                        continue;
+                    }
+
+                    files.add(new ScannedFile(path, attributes));
+
+                    if (attributes.isDirectory() && isScanned(this.depth)) {
+                        WalkTask subtask = new WalkTask(this.root, path, attributes, this.depth + 1,
+                                this.visited, this.progress);
+                        subtask.fork();
+                        subtasks.add(subtask);
+                    }
+                }
+            } catch (IOException ignored) {
+                // Skips the directory which is removed or inaccessible while scanning.
+            }
+
+            this.progress.step();
+
+            // Event is committed before joining subtasks, not to include their time.
+            if (event.shouldCommit()) {
+                event.directory = this.dir.toString();
+                event.entries = files.size();
+                event.commit();
+            }
+
+            for (WalkTask subtask : subtasks) {
+                files.addAll(subtask.join());
+            }
+
+            return files;
+        }
+
+        /**
+         * Marks this directory as visited.
+         *
+         * @return false if this directory is already visited
+         */
+        private boolean markVisited() {
+            if (!followLinks) return true;
+
+            // File key is not available on some platforms, then real path is used instead.
+            Object fileKey = this.attributes.fileKey();
+            try {
+                return this.visited.add(fileKey == null ? this.dir.toRealPath() : fileKey);
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+    }
+
+}
@@ -1,13 +1,23 @@
 package io.github.imsejin.wnliext.file;
 
+import io.github.imsejin.wnliext.common.ApplicationOptions;
+import io.github.imsejin.wnliext.common.instrument.Instrumentation;
+import io.github.imsejin.wnliext.common.instrument.Stage;
+import io.github.imsejin.wnliext.file.model.ScannedFile;
 import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.SneakyThrows;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import static io.github.imsejin.wnliext.file.FileService.*;
+import static java.util.stream.Collectors.toList;
 
 /**
  * File finder
@@ -22,10 +32,77 @@ public final class FileFinder {
 
     /**
      * Finds the files in the specified path and converts them into webtoons.
+     *
+     * <p> Each file is accessed only once to read its attributes.
      */
     public static List<Webtoon> findWebtoons(@Nonnull String pathname) {
-        List<File> files = getFiles(pathname);
-        return convert(files);
+        List<ScannedFile> files = scanFiles(pathname);
+        return convertScanned(files, null, ApplicationOptions.builder().pathname(pathname).build());
+    }
+
+    /**
+     * Finds the files in the specified paths and converts them into webtoons with the options.
+     *
+     * <p> If parallelism is greater than 1, files are converted in parallel.
+     * If there are multiple roots or depth is greater than 1, directories are scanned
+     * recursively and webtoons in all of them are merged into one list.
+     * If cache is enabled, only the files changed since the last run are parsed
+     * and the cache is saved in the path.
+     * If statistics are requested, they are read from the central directory of each file
+     * on the same threads, and cached with the webtoon.
+     *
+     * @param options application options
+     * @see DirectoryWalker
+     * @see ScanCache
+     */
+    public static List<Webtoon> findWebtoons(@Nonnull ApplicationOptions options) {
+        String pathname = options.getPathname();
+        ScanCache cache = options.isCache() ? ScanCache.load(pathname) : null;
+
+        List<Webtoon> webtoons;
+        if (!options.isSingleDirectory()) {
+            List<Path> roots = options.getRoots().stream().map(Paths::get).collect(toList());
+            DirectoryWalker walker = new DirectoryWalker(options.getDepth(), options.isFollowLinks(), options.getExcludes());
+
+            ForkJoinPool pool = new ForkJoinPool(options.getParallelism());
+            try {
+                List<ScannedFile> files;
+                try (Stage stage = Instrumentation.start("list")) {
+                    files = walker.walk(roots, pool);
+                    stage.count(files.size());
+                }
+                webtoons = options.getParallelism() <= 1
+                        ? convertScanned(files, cache, options)
+                        : convertScannedInParallel(files, pool, cache, options);
+            } finally {
+                pool.shutdown();
+            }
+        } else if (options.getParallelism() <= 1) {
+            List<ScannedFile> files = scanFiles(pathname);
+            webtoons = convertScanned(files, cache, options);
+        } else {
+            List<Path> paths = listFiles(pathname);
+            webtoons = convertInParallel(paths, cache, options);
+        }
+
+        if (cache != null) cache.save();
+
+        return webtoons;
+    }
+
+    /**
+     * Watches the files in the specified paths and publishes webtoons to the listener
+     * at first and whenever they are changed, until the thread is interrupted.
+     *
+     * @param options  application options
+     * @param listener listener which receives webtoons
+     * @see WebtoonWatcher
+     */
+    @SneakyThrows
+    public static void watchWebtoons(@Nonnull ApplicationOptions options, @Nonnull Consumer<List<Webtoon>> listener) {
+        try (WebtoonWatcher watcher = new WebtoonWatcher(options)) {
+            watcher.run(listener);
+        }
     }
 
     /**
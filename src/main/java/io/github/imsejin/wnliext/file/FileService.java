@@ -2,15 +2,32 @@ package io.github.imsejin.wnliext.file;
 
 import io.github.imsejin.common.util.CollectionUtils;
 import io.github.imsejin.common.util.FilenameUtils;
+import io.github.imsejin.wnliext.common.ApplicationOptions;
+import io.github.imsejin.wnliext.common.instrument.Instrumentation;
+import io.github.imsejin.wnliext.common.instrument.Stage;
+import io.github.imsejin.wnliext.common.jfr.ScanDirectoryEvent;
 import io.github.imsejin.wnliext.common.util.ZipUtils;
+import io.github.imsejin.wnliext.console.ProgressRenderer;
+import io.github.imsejin.wnliext.console.ProgressTask;
+import io.github.imsejin.wnliext.file.model.ScannedFile;
 import io.github.imsejin.wnliext.file.model.Webtoon;
 
 import javax.annotation.Nullable;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import static io.github.imsejin.wnliext.common.Constants.file.EXCEL_FILE_PREFIX;
 import static java.util.Comparator.comparing;
@@ -24,6 +41,12 @@ import static java.util.stream.Collectors.toList;
  */
 public final class FileService {
 
+    /**
+     * Sorts by code name of platform and title.
+     */
+    static final Comparator<Webtoon> ORDER = comparing((Webtoon it) -> it.getPlatform().getCodeName())
+            .thenComparing(Webtoon::getTitle);
+
     private FileService() {
     }
 
@@ -35,6 +58,68 @@ public final class FileService {
         return files == null ? Collections.emptyList() : Arrays.asList(files);
     }
 
+    /**
+     * Returns a list of paths of files and directories in the path
+     * without reading their attributes.
+     */
+    static List<Path> listFiles(String pathname) {
+        Path dir = Paths.get(pathname);
+        if (!Files.isDirectory(dir)) return Collections.emptyList();
+
+        ScanDirectoryEvent event = new ScanDirectoryEvent();
+        event.begin();
+
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path path : stream) {
+                paths.add(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (event.shouldCommit()) {
+            event.directory = dir.toString();
+            event.entries = paths.size();
+            event.commit();
+        }
+
+        return paths;
+    }
+
+    /**
+     * Reads attributes of the file in bulk.
+     *
+     * @return scanned file or null if it is removed or inaccessible
+     */
+    @Nullable
+    static ScannedFile scan(Path path) {
+        try {
+            return new ScannedFile(path, Files.readAttributes(path, BasicFileAttributes.class));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a list of files and directories in the path with their attributes.
+     *
+     * <p> Attributes of each entry are read in bulk only once,
+     * so that they can be reused without accessing file system again.
+     */
+    static List<ScannedFile> scanFiles(String pathname) {
+        try (Stage stage = Instrumentation.start("list")) {
+            List<ScannedFile> files = new ArrayList<>();
+            for (Path path : listFiles(pathname)) {
+                ScannedFile file = scan(path);
+                if (file != null) files.add(file);
+            }
+
+            stage.count(files.size());
+            return files;
+        }
+    }
+
     /**
      * Converts list of files and directories to list of webtoons.
      */
@@ -45,11 +130,143 @@ public final class FileService {
                 .filter(ZipUtils::isZip)
                 .map(Webtoon::from)
                 .distinct() // Removes duplicated webtoons.
-                .sorted(comparing((Webtoon it) -> it.getPlatform().getCodeName())
-                        .thenComparing(Webtoon::getTitle)) // Sorts list of webtoons.
+                .sorted(ORDER) // Sorts list of webtoons.
                 .collect(toList());
     }
 
+    /**
+     * Converts list of scanned files and directories to list of webtoons.
+     *
+     * <p> Filtering, parsing and sorting are recorded as separate stages.
+     * If statistics are requested, they are read from the central directory of each file
+     * while it is parsed, and cached with the webtoon.
+     *
+     * @param files   scanned files and directories
+     * @param cache   cache of webtoons, if it is null, all files are parsed
+     * @param options application options
+     * @see Instrumentation
+     */
+    static List<Webtoon> convertScanned(List<ScannedFile> files, @Nullable ScanCache cache,
+                                        ApplicationOptions options) {
+        if (files == null) files = Collections.emptyList();
+        boolean statistics = options.isStatistics();
+
+        List<ScannedFile> zips;
+        try (Stage stage = Instrumentation.start("filter")) {
+            zips = files.stream().filter(ArchiveInspector::isZip).collect(toList());
+            stage.count(files.size());
+        }
+
+        List<Webtoon> webtoons;
+        try (Stage stage = Instrumentation.start("parse");
+             ProgressTask progress = ProgressRenderer.start("Parsing webtoon files", zips.size())) {
+            webtoons = zips.stream().map(it -> toWebtoon(it, cache, statistics, progress)).collect(toList());
+            stage.count(zips.size());
+        }
+
+        try (Stage stage = Instrumentation.start("sort")) {
+            stage.count(webtoons.size());
+            return webtoons.stream()
+                    .distinct() // Removes duplicated webtoons.
+                    .sorted(ORDER) // Sorts list of webtoons.
+                    .collect(toList());
+        }
+    }
+
+    /**
+     * Reads attributes of the paths and converts them to list of webtoons in parallel
+     * with {@link ApplicationOptions#getParallelism()} threads.
+     *
+     * <p> The result is the same as sequential conversion, because the stream keeps
+     * encounter order of the paths; {@link java.util.stream.Stream#distinct()} retains
+     * the first one of duplicated webtoons and sorting is stable.
+     *
+     * @param paths   paths of files and directories
+     * @param cache   cache of webtoons, if it is null, all files are parsed
+     * @param options application options
+     * @see #convertScanned(List, ScanCache, ApplicationOptions)
+     */
+    static List<Webtoon> convertInParallel(List<Path> paths, @Nullable ScanCache cache, ApplicationOptions options) {
+        if (paths == null) paths = Collections.emptyList();
+        List<Path> source = paths;
+
+        ForkJoinPool pool = new ForkJoinPool(options.getParallelism());
+        try {
+            List<ScannedFile> files;
+            try (Stage stage = Instrumentation.start("list")) {
+                // Parallel stream runs on the pool which submits it.
+                files = pool.submit(() -> source.parallelStream()
+                        .map(FileService::scan)
+                        .filter(Objects::nonNull)
+                        .collect(toList())).join();
+                stage.count(files.size());
+            }
+
+            return convertScannedInParallel(files, pool, cache, options);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Converts list of scanned files and directories to list of webtoons with the pool.
+     *
+     * @param files   scanned files and directories
+     * @param pool    pool which runs the parallel stream
+     * @param cache   cache of webtoons, if it is null, all files are parsed
+     * @param options application options
+     * @see #convertInParallel(List, ScanCache, ApplicationOptions)
+     */
+    static List<Webtoon> convertScannedInParallel(List<ScannedFile> files, ForkJoinPool pool,
+                                                  @Nullable ScanCache cache, ApplicationOptions options) {
+        if (files == null) files = Collections.emptyList();
+        List<ScannedFile> source = files;
+        boolean statistics = options.isStatistics();
+
+        List<ScannedFile> zips;
+        try (Stage stage = Instrumentation.start("filter")) {
+            zips = pool.submit(() -> source.parallelStream().filter(ArchiveInspector::isZip).collect(toList())).join();
+            stage.count(source.size());
+        }
+
+        List<Webtoon> webtoons;
+        try (Stage stage = Instrumentation.start("parse");
+             ProgressTask progress = ProgressRenderer.start("Parsing webtoon files", zips.size())) {
+            webtoons = pool.submit(() -> zips.parallelStream()
+                    .map(it -> toWebtoon(it, cache, statistics, progress))
+                    .collect(toList())).join();
+            stage.count(zips.size());
+        }
+
+        try (Stage stage = Instrumentation.start("sort")) {
+            stage.count(webtoons.size());
+            return pool.submit(() -> webtoons.parallelStream()
+                    .distinct() // Removes duplicated webtoons.
+                    .sorted(ORDER) // Sorts list of webtoons.
+                    .collect(toList())).join();
+        }
+    }
+
+    /**
+     * Returns webtoon in the cache or parses the file only when it is not cached or changed.
+     * Statistics are read from the central directory of the file only when they are not cached.
+     */
+    private static Webtoon toWebtoon(ScannedFile file, @Nullable ScanCache cache, boolean statistics,
+                                     ProgressTask progress) {
+        Webtoon webtoon = cache == null ? null : cache.get(file);
+        boolean changed = webtoon == null;
+        if (changed) webtoon = Webtoon.from(file);
+
+        if (statistics && webtoon.getStatistics() == null) {
+            webtoon.setStatistics(ArchiveInspector.getStatistics(file.getPath().toFile()));
+            changed |= webtoon.getStatistics() != null;
+        }
+        if (changed && cache != null) cache.put(file, webtoon);
+
+        progress.step();
+        return webtoon;
+    }
+
     @Nullable
     static File getLatestFile(List<File> files) {
         File latestFile = null;
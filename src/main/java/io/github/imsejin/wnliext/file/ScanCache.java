@@ -0,0 +1,216 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.file.model.ArchiveStatistics;
+import io.github.imsejin.wnliext.file.model.ScannedFile;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scan cache
+ *
+ * <p> Persistent cache of webtoons converted from files, which is keyed by
+ * path, size and last modified time of the file. Only the file whose key is
+ * changed needs to be parsed again. Entries of the files that are not looked
+ * up in this run are removed when the cache is saved.
+ *
+ * <p> Statistics of the file are cached with its webtoon, if they have been read.
+ *
+ * <p> It is safe to look up and put entries from multiple threads.
+ */
+final class ScanCache {
+
+    static final String FILENAME = ".wnliext-cache";
+
+    private static final int MAGIC = 0x574C4543; // "WLEC"
+
+    private static final int VERSION = 2;
+
+    private final Path file;
+
+    /**
+     * Entries loaded from the file.
+     */
+    private final Map<String, Entry> previous;
+
+    /**
+     * Entries which are looked up or put in this run.
+     */
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+
+    private volatile boolean modified;
+
+    private ScanCache(Path file, Map<String, Entry> previous) {
+        this.file = file;
+        this.previous = previous;
+    }
+
+    /**
+     * Loads the cache in the directory.
+     *
+     * <p> If the cache doesn't exist or is unreadable, returns an empty cache.
+     *
+     * @param pathname directory where the cache is stored
+     * @return scan cache
+     */
+    static ScanCache load(String pathname) {
+        Path file = Paths.get(pathname, FILENAME);
+        if (!Files.isRegularFile(file)) return new ScanCache(file, Collections.emptyMap());
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return new ScanCache(file, Collections.emptyMap());
+
+            int count = in.readInt();
+            Map<String, Entry> entries = new HashMap<>((int) (count / 0.75f) + 1);
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                long size = in.readLong();
+                long lastModifiedTime = in.readLong();
+                Webtoon webtoon = WebtoonCodec.read(in);
+                webtoon.setStatistics(readStatistics(in));
+                entries.put(key, new Entry(size, lastModifiedTime, webtoon));
+            }
+
+            return new ScanCache(file, entries);
+        } catch (IOException | RuntimeException e) {
+            // Ignores the corrupted cache, it will be overwritten.
+            return new ScanCache(file, Collections.emptyMap());
+        }
+    }
+
+    /**
+     * Returns a copy of webtoon cached for the file.
+     *
+     * @param file scanned file
+     * @return webtoon or null if the file is not cached or changed
+     */
+    @Nullable
+    Webtoon get(ScannedFile file) {
+        String key = keyOf(file);
+        Entry entry = this.previous.get(key);
+        if (entry == null || !entry.matches(file.getAttributes())) return null;
+
+        this.current.put(key, entry);
+        return copyOf(entry.webtoon);
+    }
+
+    /**
+     * Caches webtoon converted from the file.
+     */
+    void put(ScannedFile file, Webtoon webtoon) {
+        BasicFileAttributes attributes = file.getAttributes();
+        this.current.put(keyOf(file), new Entry(attributes.size(), toNanos(attributes), copyOf(webtoon)));
+        this.modified = true;
+    }
+
+    /**
+     * Saves the entries looked up or put in this run, if anything changed.
+     */
+    void save() {
+        if (!this.modified && this.current.size() == this.previous.size()) return;
+
+        try {
+            Path temp = this.file.resolveSibling(FILENAME + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(this.current.size());
+                for (Map.Entry<String, Entry> it : this.current.entrySet()) {
+                    Entry entry = it.getValue();
+                    out.writeUTF(it.getKey());
+                    out.writeLong(entry.size);
+                    out.writeLong(entry.lastModifiedTime);
+                    WebtoonCodec.write(out, entry.webtoon);
+                    writeStatistics(out, entry.webtoon.getStatistics());
+                }
+            }
+
+            try {
+                Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Nullable
+    private static ArchiveStatistics readStatistics(DataInput in) throws IOException {
+        if (!in.readBoolean()) return null;
+
+        return new ArchiveStatistics(in.readInt(), in.readInt(), in.readLong(), in.readLong());
+    }
+
+    private static void writeStatistics(DataOutput out, @Nullable ArchiveStatistics statistics) throws IOException {
+        out.writeBoolean(statistics != null);
+        if (statistics == null) return;
+
+        out.writeInt(statistics.getEpisodes());
+        out.writeInt(statistics.getImages());
+        out.writeLong(statistics.getUncompressedSize());
+        out.writeLong(statistics.getCompressedSize());
+    }
+
+    private static String keyOf(ScannedFile file) {
+        return file.getPath().toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Copies webtoon not to be affected by modification of the original.
+     */
+    private static Webtoon copyOf(Webtoon webtoon) {
+        Webtoon copy = Webtoon.builder()
+                .platform(webtoon.getPlatform())
+                .title(webtoon.getTitle())
+                .authors(webtoon.getAuthors())
+                .completed(webtoon.isCompleted())
+                .creationTime(webtoon.getCreationTime())
+                .size(webtoon.getSize())
+                .build();
+        // Statistics are immutable.
+        copy.setStatistics(webtoon.getStatistics());
+
+        return copy;
+    }
+
+    private static long toNanos(BasicFileAttributes attributes) {
+        return attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+    }
+
+    private static class Entry {
+        private final long size;
+        private final long lastModifiedTime;
+        private final Webtoon webtoon;
+
+        private Entry(long size, long lastModifiedTime, Webtoon webtoon) {
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+            this.webtoon = webtoon;
+        }
+
+        private boolean matches(BasicFileAttributes attributes) {
+            return this.size == attributes.size() && this.lastModifiedTime == toNanos(attributes);
+        }
+    }
+
+}
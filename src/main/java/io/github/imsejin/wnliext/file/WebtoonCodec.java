@@ -0,0 +1,59 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Webtoon codec
+ *
+ * <p> Writes and reads all fields of webtoon in binary form.
+ */
+final class WebtoonCodec {
+
+    private WebtoonCodec() {
+    }
+
+    static void write(DataOutput out, Webtoon webtoon) throws IOException {
+        out.writeUTF(webtoon.getPlatform().getCode());
+        out.writeUTF(webtoon.getTitle());
+
+        List<String> authors = webtoon.getAuthors();
+        out.writeShort(authors.size());
+        for (String author : authors) {
+            out.writeUTF(author);
+        }
+
+        out.writeBoolean(webtoon.isCompleted());
+        // Creation time is local date time, so it is stored without time zone.
+        out.writeLong(webtoon.getCreationTime().toEpochSecond(ZoneOffset.UTC));
+        out.writeLong(webtoon.getSize());
+    }
+
+    static Webtoon read(DataInput in) throws IOException {
+        Platform platform = Platform.fromCode(in.readUTF());
+        String title = in.readUTF();
+
+        String[] authors = new String[in.readUnsignedShort()];
+        for (int i = 0; i < authors.length; i++) {
+            authors[i] = in.readUTF();
+        }
+
+        return Webtoon.builder()
+                .platform(platform)
+                .title(title)
+                .authors(Arrays.asList(authors))
+                .completed(in.readBoolean())
+                .creationTime(LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC))
+                .size(in.readLong())
+                .build();
+    }
+
+}
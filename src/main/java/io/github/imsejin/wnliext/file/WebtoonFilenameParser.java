@@ -0,0 +1,103 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.imsejin.wnliext.file.constant.Delimiter.*;
+
+/**
+ * Webtoon filename parser
+ *
+ * <p> Parses filename without extension, which is formatted like
+ * {@code {platform}_{title} - {author}, {author} [完]}.
+ * It finds delimiters by index scanning instead of regular expression,
+ * so that no pattern is compiled per filename.
+ *
+ * <pre>
+ * "N_팀 피닉스 - 엄재경, Ze-yAv [完]"  => NAVER, "팀 피닉스", ["엄재경", "Ze-yAv"], completed
+ * "ST_총수 - 최종편 - 정기영, 백승훈" => SPORTS_TODAY, "총수 - 최종편", ["정기영", "백승훈"], uncompleted
+ * </pre>
+ */
+public final class WebtoonFilenameParser {
+
+    private static final String PLATFORM_DELIMITER = PLATFORM.getValue();
+
+    private static final String TITLE_DELIMITER = TITLE.getValue();
+
+    private static final String AUTHOR_DELIMITER = AUTHOR.getValue();
+
+    private static final String COMPLETED_MARKER = COMPLETED.getValue();
+
+    private WebtoonFilenameParser() {
+    }
+
+    /**
+     * Parses filename into webtoon which has platform, title, authors and whether it is completed.
+     *
+     * <p> Platform is separated by the first delimiter and title by the last delimiter,
+     * so title can contain those delimiters.
+     *
+     * @param filename filename without extension
+     * @return webtoon without creation time and size
+     * @throws IllegalArgumentException if filename is malformed or has unknown platform code
+     */
+    public static Webtoon parse(@Nonnull String filename) {
+        boolean completed = filename.endsWith(COMPLETED_MARKER);
+        int end = completed ? filename.length() - COMPLETED_MARKER.length() : filename.length();
+
+        // Platform needs at least one character.
+        int platformEnd = filename.indexOf(PLATFORM_DELIMITER);
+        if (platformEnd < 1) throw malformed(filename);
+        int titleStart = platformEnd + PLATFORM_DELIMITER.length();
+
+        // Title and authors need at least one character.
+        int titleEnd = filename.lastIndexOf(TITLE_DELIMITER, end - TITLE_DELIMITER.length() - 1);
+        if (titleEnd <= titleStart) throw malformed(filename);
+
+        Webtoon webtoon = new Webtoon();
+        webtoon.setPlatform(Platform.fromCode(filename.substring(0, platformEnd)));
+        webtoon.setTitle(filename.substring(titleStart, titleEnd));
+        webtoon.setAuthors(splitAuthors(filename, titleEnd + TITLE_DELIMITER.length(), end));
+        webtoon.setCompleted(completed);
+
+        return webtoon;
+    }
+
+    /**
+     * Splits authors in the range like {@link String#split(String)} does,
+     * which removes trailing empty strings.
+     */
+    private static List<String> splitAuthors(String filename, int start, int end) {
+        // Counts authors to allocate an array of exact size.
+        int count = 1;
+        int i = start;
+        while ((i = filename.indexOf(AUTHOR_DELIMITER, i)) != -1 && i + AUTHOR_DELIMITER.length() <= end) {
+            count++;
+            i += AUTHOR_DELIMITER.length();
+        }
+
+        String[] authors = new String[count];
+        int from = start;
+        for (int k = 0; k < count - 1; k++) {
+            int to = filename.indexOf(AUTHOR_DELIMITER, from);
+            authors[k] = filename.substring(from, to);
+            from = to + AUTHOR_DELIMITER.length();
+        }
+        authors[count - 1] = filename.substring(from, end);
+
+        // Removes trailing empty strings.
+        int length = count;
+        while (length > 0 && authors[length - 1].isEmpty()) length--;
+
+        return Arrays.asList(length == count ? authors : Arrays.copyOf(authors, length));
+    }
+
+    private static IllegalArgumentException malformed(String filename) {
+        return new IllegalArgumentException("Invalid filename of webtoon: " + filename);
+    }
+
+}
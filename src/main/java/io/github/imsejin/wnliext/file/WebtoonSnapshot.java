@@ -0,0 +1,118 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.common.util.FilenameUtils;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.SneakyThrows;
+
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Webtoon snapshot
+ *
+ * <p> Binary sidecar of a webtoon list, which holds the same webtoons
+ * in a form that loads much faster than parsing the workbook.
+ * It has size and checksum of the workbook, so it is used
+ * only when the workbook is not changed after it was written.
+ *
+ * <pre>
+ * webtoonList-1.0.2-20201010123456.xlsx
+ * webtoonList-1.0.2-20201010123456.snapshot
+ * </pre>
+ */
+public final class WebtoonSnapshot {
+
+    private static final String EXTENSION = "snapshot";
+
+    private static final int MAGIC = 0x574C4553; // "WLES"
+
+    private static final int VERSION = 1;
+
+    private WebtoonSnapshot() {
+    }
+
+    /**
+     * Returns the snapshot file of the webtoon list.
+     */
+    public static File fileOf(File listFile) {
+        return new File(listFile.getParentFile(), FilenameUtils.baseName(listFile) + '.' + EXTENSION);
+    }
+
+    /**
+     * Writes snapshot of the webtoon list which is already written.
+     *
+     * @param listFile webtoon list
+     * @param webtoons webtoons in the list
+     */
+    @SneakyThrows
+    public static void write(File listFile, List<Webtoon> webtoons) {
+        long checksum = checksum(listFile);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileOf(listFile))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(listFile.length());
+            out.writeLong(checksum);
+            out.writeInt(webtoons.size());
+            for (Webtoon webtoon : webtoons) {
+                WebtoonCodec.write(out, webtoon);
+            }
+        }
+    }
+
+    /**
+     * Reads webtoons from snapshot of the webtoon list.
+     *
+     * @param listFile webtoon list
+     * @return webtoons or null if snapshot doesn't exist, is corrupted
+     * or doesn't match the webtoon list
+     */
+    @Nullable
+    public static List<Webtoon> read(File listFile) {
+        File file = fileOf(listFile);
+        if (!file.isFile()) return null;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return null;
+
+            // Checks if the webtoon list is changed after snapshot was written.
+            if (in.readLong() != listFile.length() || in.readLong() != checksum(listFile)) return null;
+
+            int count = in.readInt();
+            List<Webtoon> webtoons = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                webtoons.add(WebtoonCodec.read(in));
+            }
+
+            return webtoons;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static long checksum(File file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[64 * 1024];
+
+        try (InputStream in = new FileInputStream(file)) {
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, len);
+            }
+        }
+
+        return crc.getValue();
+    }
+
+}
@@ -0,0 +1,296 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.common.ApplicationOptions;
+import io.github.imsejin.wnliext.file.model.ScannedFile;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Webtoon watcher
+ *
+ * <p> Keeps webtoons in the roots in memory and applies the events of
+ * {@link WatchService} to them, so that the files are not scanned again.
+ * Renaming a file comes as deletion and creation of the file.
+ *
+ * <p> Events come in bursts while files are copied, so webtoons are published
+ * only after no webtoon has changed for the quiet period.
+ */
+final class WebtoonWatcher implements Closeable {
+
+    private final List<Path> roots;
+
+    private final long quietPeriod;
+
+    private final DirectoryWalker walker;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Whether to read statistics of webtoon files.
+     */
+    private final boolean statistics;
+
+    private final WatchService watchService;
+
+    /**
+     * Watched directories with their root and depth of entries.
+     */
+    private final Map<WatchKey, WatchedDirectory> directories = new HashMap<>();
+
+    /**
+     * Webtoons keyed by path of the file, which are sorted by the path so that
+     * the same one of duplicated webtoons is always retained.
+     */
+    private final NavigableMap<Path, Webtoon> catalog = new TreeMap<>();
+
+    WebtoonWatcher(ApplicationOptions options) throws IOException {
+        this.roots = options.getRoots().stream().map(Paths::get).collect(toList());
+        this.quietPeriod = TimeUnit.MILLISECONDS.toNanos(options.getQuietPeriod());
+        this.walker = new DirectoryWalker(options.getDepth(), options.isFollowLinks(), options.getExcludes());
+        this.pool = new ForkJoinPool(options.getParallelism());
+        this.statistics = options.isStatistics();
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Scans the roots and publishes webtoons to the listener,
+     * and then publishes them again whenever they are changed.
+     *
+     * <p> This blocks until the thread is interrupted or this watcher is closed.
+     *
+     * @param listener listener which receives sorted webtoons without duplicates
+     */
+    void run(Consumer<List<Webtoon>> listener) {
+        try {
+            rescan();
+            listener.accept(getWebtoons());
+
+            boolean dirty = false;
+            long lastChangedTime = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key;
+                if (dirty) {
+                    long remaining = lastChangedTime + this.quietPeriod - System.nanoTime();
+                    if (remaining <= 0) {
+                        dirty = false;
+                        listener.accept(getWebtoons());
+                        continue;
+                    }
+
+                    key = this.watchService.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (key == null) continue;
+                } else {
+                    key = this.watchService.take();
+                }
+
+                if (handle(key)) {
+                    dirty = true;
+                    lastChangedTime = System.nanoTime();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // Watcher is closed by the other thread.
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns sorted webtoons without duplicates.
+     * Of duplicated webtoons, the one whose file has the first path is retained.
+     */
+    List<Webtoon> getWebtoons() {
+        return this.catalog.values().stream().distinct().sorted(FileService.ORDER).collect(toList());
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.watchService.close();
+        this.pool.shutdown();
+    }
+
+    /**
+     * Applies events of the key to the catalog.
+     *
+     * @return whether the catalog is changed
+     */
+    private boolean handle(WatchKey key) throws IOException {
+        WatchedDirectory dir = this.directories.get(key);
+        boolean changed = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // Events are lost, so the catalog can't be trusted anymore.
+                // Rescanning cancels this key, so the rest of its events are stale.
+                rescan();
+                return true;
+            }
+            if (dir == null) continue;
+
+            Path path = dir.path.resolve((Path) event.context());
+            if (this.walker.isExcluded(dir.root, path)) continue;
+
+            if (event.kind() == ENTRY_DELETE) {
+                changed |= remove(path);
+            } else {
+                changed |= update(dir, path, event.kind() == ENTRY_CREATE);
+            }
+        }
+
+        // Key of the directory which is removed can't be reset.
+        if (!key.reset()) this.directories.remove(key);
+
+        return changed;
+    }
+
+    private boolean update(WatchedDirectory dir, Path path, boolean created) throws IOException {
+        ScannedFile file = FileService.scan(path);
+        if (file == null) return remove(path);
+
+        if (file.getAttributes().isDirectory()) {
+            // Directory which is created or moved in has to be scanned with its subdirectories.
+            if (!created || !this.walker.isScanned(dir.depth)) return false;
+
+            register(dir.root, path, dir.depth + 1);
+            List<ScannedFile> files = this.walker.walk(dir.root, path, dir.depth + 1, this.pool);
+            boolean changed = false;
+            for (ScannedFile it : files) {
+                changed |= put(it);
+            }
+            return changed;
+        }
+
+        return put(file) || (!ArchiveInspector.isZip(file) && remove(path));
+    }
+
+    /**
+     * Puts webtoon converted from the file, if it is a webtoon file.
+     * Subdirectories in the files are registered to be watched.
+     */
+    private boolean put(ScannedFile file) throws IOException {
+        if (file.getAttributes().isDirectory()) {
+            int depth = depthOf(file.getPath());
+            if (this.walker.isScanned(depth)) register(rootOf(file.getPath()), file.getPath(), depth + 1);
+        }
+        if (!ArchiveInspector.isZip(file)) return false;
+
+        Webtoon webtoon;
+        try {
+            webtoon = Webtoon.from(file);
+        } catch (IllegalArgumentException e) {
+            // Skips the file whose name is not of webtoon, not to stop watching.
+            return this.catalog.remove(file.getPath()) != null;
+        }
+        if (this.statistics) webtoon.setStatistics(ArchiveInspector.getStatistics(file.getPath().toFile()));
+        Webtoon old = this.catalog.put(file.getPath(), webtoon);
+
+        // Webtoon equals the other regardless of its file, so size is compared as well.
+        return old == null || !old.equals(webtoon)
+                || old.isCompleted() != webtoon.isCompleted() || old.getSize() != webtoon.getSize()
+                || !Objects.equals(old.getStatistics(), webtoon.getStatistics());
+    }
+
+    /**
+     * Removes webtoon of the file or webtoons in the directory.
+     *
+     * <p> Paths in the directory are sorted among the paths which begin with its name,
+     * so only they are visited instead of the whole catalog.
+     */
+    private boolean remove(Path path) {
+        if (this.catalog.remove(path) != null) return true;
+
+        String prefix = path.toString();
+        boolean changed = false;
+        for (Iterator<Path> it = this.catalog.tailMap(path, false).keySet().iterator(); it.hasNext(); ) {
+            Path next = it.next();
+            // Path is compared case-insensitively on some file systems.
+            if (!next.toString().regionMatches(true, 0, prefix, 0, prefix.length())) break;
+            if (!next.startsWith(path)) continue;
+
+            it.remove();
+            changed = true;
+        }
+
+        return changed;
+    }
+
+    /**
+     * Clears the catalog and watched directories, and scans all the roots again.
+     */
+    private void rescan() throws IOException {
+        this.directories.keySet().forEach(WatchKey::cancel);
+        this.directories.clear();
+        this.catalog.clear();
+
+        for (Path root : this.roots) {
+            register(root, root, 1);
+        }
+        for (ScannedFile file : this.walker.walk(this.roots, this.pool)) {
+            put(file);
+        }
+    }
+
+    private void register(Path root, Path dir, int depth) throws IOException {
+        WatchKey key = dir.register(this.watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+        this.directories.put(key, new WatchedDirectory(root, dir, depth));
+    }
+
+    private Path rootOf(Path path) {
+        for (Path root : this.roots) {
+            if (path.startsWith(root)) return root;
+        }
+        return path.getParent();
+    }
+
+    /**
+     * Returns depth of the path, the entries in root are at depth 1.
+     */
+    private int depthOf(Path path) {
+        return rootOf(path).relativize(path).getNameCount();
+    }
+
+    private static class WatchedDirectory {
+        private final Path root;
+        private final Path path;
+
+        /**
+         * Depth of the entries in this directory.
+         */
+        private final int depth;
+
+        private WatchedDirectory(Path root, Path path, int depth) {
+            this.root = root;
+            this.path = path;
+            this.depth = depth;
+        }
+    }
+
+}
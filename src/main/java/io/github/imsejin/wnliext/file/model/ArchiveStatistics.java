@@ -0,0 +1,49 @@
+package io.github.imsejin.wnliext.file.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Archive statistics
+ *
+ * <p> Statistics of entries in webtoon file, which are read from its central directory
+ * without extracting it. Each top-level directory in the archive is counted as an episode.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class ArchiveStatistics {
+
+    /**
+     * Number of top-level directories.
+     */
+    private final int episodes;
+
+    /**
+     * Number of image files.
+     */
+    private final int images;
+
+    /**
+     * Total size of files before compression.
+     */
+    private final long uncompressedSize;
+
+    /**
+     * Total size of files after compression.
+     */
+    private final long compressedSize;
+
+    /**
+     * Returns compressed size over uncompressed size, which is less than 1 as files are compressed.
+     *
+     * @return compression ratio or NaN if files are empty
+     */
+    public double getCompressionRatio() {
+        return this.uncompressedSize == 0 ? Double.NaN : (double) this.compressedSize / this.uncompressedSize;
+    }
+
+}
@@ -0,0 +1,47 @@
+package io.github.imsejin.wnliext.file.model;
+
+import io.github.imsejin.common.util.FilenameUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import javax.annotation.Nonnull;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Scanned file
+ *
+ * <p> Entry of directory listing with its attributes,
+ * which are read only once while scanning.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ScannedFile {
+
+    @Nonnull
+    private final Path path;
+
+    @Nonnull
+    private final BasicFileAttributes attributes;
+
+    /**
+     * Returns filename without extension.
+     */
+    public String getBaseName() {
+        String filename = this.path.getFileName().toString();
+        int index = FilenameUtils.indexOfExtension(filename);
+        return index == -1 ? filename : filename.substring(0, index);
+    }
+
+    /**
+     * Returns extension of filename.
+     */
+    public String getExtension() {
+        String filename = this.path.getFileName().toString();
+        int index = FilenameUtils.indexOfExtension(filename);
+        return index == -1 ? "" : filename.substring(index + 1);
+    }
+
+}
@@ -3,25 +3,27 @@ package io.github.imsejin.wnliext.file.model;
 import com.github.javaxcel.annotation.*;
 import io.github.imsejin.common.util.FileUtils;
 import io.github.imsejin.common.util.FilenameUtils;
-import io.github.imsejin.common.util.StringUtils;
+import io.github.imsejin.wnliext.common.jfr.ParseFailureEvent;
 import io.github.imsejin.wnliext.excel.config.BodyStyleConfig;
 import io.github.imsejin.wnliext.excel.config.CenterBodyStyleConfig;
 import io.github.imsejin.wnliext.excel.config.HeaderStyleConfig;
 import io.github.imsejin.wnliext.excel.config.RightBodyStyleConfig;
+import io.github.imsejin.wnliext.file.WebtoonFilenameParser;
 import lombok.*;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.File;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.time.ZoneId;
 import java.util.List;
-import java.util.Map;
-import java.util.regex.Pattern;
-
-import static io.github.imsejin.wnliext.file.constant.Delimiter.*;
 
 /**
  * Webtoon
+ *
+ * <p> Expressions on the columns are evaluated by javaxcel's model reader and writer.
+ * Webtoon list is written with {@link io.github.imsejin.wnliext.excel.WebtoonWriter}, which doesn't evaluate them.
  */
 @Getter
 @Setter
@@ -80,6 +82,13 @@ public class Webtoon {
     @ExcelReaderExpression("T(Long).parseLong(#size.replace(',', ''))")
     private long size;
 
+    /**
+     * Statistics of entries in webtoon file, which are read only if they are requested.
+     */
+    @Nullable
+    @ExcelIgnore
+    private ArchiveStatistics statistics;
+
     @Builder
     public Webtoon(@Nonnull Platform platform, @Nonnull String title, @Nonnull List<String> authors,
                    boolean completed, @Nonnull LocalDateTime creationTime, long size) {
@@ -92,23 +101,7 @@ public class Webtoon {
     }
 
     public static Webtoon from(File file) {
-        String filename = FilenameUtils.baseName(file);
-
-        boolean completed = filename.endsWith(COMPLETED.getValue());
-        String regex;
-        if (completed) {
-            regex = String.format("^(.+)%s(.+)%s(.+).{%d}?$", PLATFORM, TITLE, COMPLETED.getValue().length());
-        } else {
-            regex = String.format("^(.+)%s(.+)%s(.+)$", PLATFORM, TITLE);
-        }
-
-        Map<Integer, String> match = StringUtils.find(filename, regex, Pattern.MULTILINE, 1, 2, 3);
-
-        Webtoon webtoon = new Webtoon();
-        webtoon.platform = Platform.fromCode(match.get(1));
-        webtoon.title = match.get(2);
-        webtoon.authors = Arrays.asList(match.get(3).split(AUTHOR.getValue()));
-        webtoon.completed = completed;
+        Webtoon webtoon = parse(FilenameUtils.baseName(file), file.getName());
         // To compares written date time with this, removes nanoseconds.
         webtoon.creationTime = FileUtils.getCreationTime(file).withNano(0);
         webtoon.size = file.length();
@@ -116,4 +109,39 @@ public class Webtoon {
         return webtoon;
     }
 
+    /**
+     * Converts scanned file into webtoon without accessing file system again.
+     *
+     * @param file file with attributes read while scanning
+     * @return webtoon
+     */
+    public static Webtoon from(ScannedFile file) {
+        BasicFileAttributes attributes = file.getAttributes();
+
+        Webtoon webtoon = parse(file.getBaseName(), String.valueOf(file.getPath().getFileName()));
+        // To compares written date time with this, removes nanoseconds.
+        webtoon.creationTime = LocalDateTime.ofInstant(attributes.creationTime().toInstant(), ZoneId.systemDefault())
+                .withNano(0);
+        webtoon.size = attributes.size();
+
+        return webtoon;
+    }
+
+    /**
+     * Parses filename of webtoon and records the failure as {@link ParseFailureEvent}.
+     */
+    private static Webtoon parse(String baseName, String filename) {
+        try {
+            return WebtoonFilenameParser.parse(baseName);
+        } catch (IllegalArgumentException e) {
+            ParseFailureEvent event = new ParseFailureEvent();
+            if (event.isEnabled()) {
+                event.filename = filename;
+                event.message = e.getMessage();
+                event.commit();
+            }
+            throw e;
+        }
+    }
+
 }
@@ -0,0 +1,77 @@
+package io.github.imsejin.wnliext.common.instrument;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstrumentationTest {
+
+    @BeforeEach
+    @AfterEach
+    void reset() {
+        Instrumentation.reset();
+    }
+
+    @Test
+    @SneakyThrows
+    void record(@TempDir Path path) {
+        // given
+        List<byte[]> garbage = new ArrayList<>();
+
+        // when
+        try (Stage stage = Instrumentation.start("allocate")) {
+            for (int i = 0; i < 1024; i++) {
+                garbage.add(new byte[1024]);
+            }
+            stage.count(garbage.size());
+        }
+        try (Stage ignored = Instrumentation.start("empty \"stage\"")) {
+            Thread.sleep(10);
+        }
+        long sum = 0;
+        try (Stage stage = Instrumentation.start("busy")) {
+            long end = System.nanoTime() + 200_000_000;
+            while (System.nanoTime() < end) sum++;
+            stage.count(sum);
+        }
+
+        File file = path.resolve("report.json").toFile();
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("parallelism", 4);
+        properties.put("pathname", "C:\\webtoons");
+        Instrumentation.writeReport(file, properties);
+
+        // then
+        List<StageRecord> records = Instrumentation.getRecords();
+        assertThat(records).extracting(StageRecord::getName).containsExactly("allocate", "empty \"stage\"", "busy");
+        assertThat(records.get(0).getCount()).isEqualTo(1024);
+        assertThat(records.get(0).getThroughput()).isPositive();
+        assertThat(records.get(0).getAllocatedBytes()).isGreaterThanOrEqualTo(1024 * 1024);
+        assertThat(records.get(1).getElapsedMillis()).isGreaterThanOrEqualTo(10);
+        // Busy thread uses a core at least, and the process can't use more than all the cores.
+        assertThat(records.get(2).getSpeedup()).isBetween(0.5, Runtime.getRuntime().availableProcessors() + 0.5);
+        assertThat(Instrumentation.format()).contains("allocate", "1,024", "Speedup", "total")
+                .containsPattern("busy .+ \\d+\\.\\dx");
+
+        String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        assertThat(json)
+                .contains("\"properties\": {\"parallelism\": 4, \"pathname\": \"C:\\\\webtoons\"}")
+                .contains("{\"name\": \"allocate\", \"elapsedNanos\": ")
+                .contains("\"name\": \"empty \\\"stage\\\"\"")
+                .containsPattern("\"cpuNanos\": \\d+, \"speedup\": \\d+\\.\\d{2}}");
+    }
+
+}
@@ -0,0 +1,74 @@
+package io.github.imsejin.wnliext.common.jfr;
+
+import io.github.imsejin.wnliext.excel.ExcelExecutor;
+import io.github.imsejin.wnliext.file.FileFinder;
+import io.github.imsejin.wnliext.file.SyntheticLibrary;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class WebtoonEventTest {
+
+    @Test
+    @SneakyThrows
+    void record(@TempDir Path path) {
+        // given
+        Path library = SyntheticLibrary.builder().size(100).build().generate(path.resolve("library"));
+        File invalid = Files.createFile(path.resolve("invalid.zip")).toFile();
+
+        // when
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(ScanDirectoryEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(ParseFailureEvent.class);
+            recording.enable(WorkbookReadEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(WorkbookWriteEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            List<Webtoon> webtoons = FileFinder.findWebtoons(library.toString());
+            assertThatIllegalArgumentException().isThrownBy(() -> Webtoon.from(invalid));
+            ExcelExecutor.create(webtoons, library.toString());
+            ExcelExecutor.update(webtoons, library.toString(), FileFinder.findLatestWebtoonList(library.toString()));
+
+            recording.stop();
+            Path dump = path.resolve("recording.jfr");
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        }
+
+        // then
+        assertThat(filter(events, ScanDirectoryEvent.class))
+                .hasSize(1)
+                .allMatch(it -> it.getString("directory").equals(library.toString()) && it.getInt("entries") == 100);
+        assertThat(filter(events, ParseFailureEvent.class))
+                .hasSize(1)
+                .allMatch(it -> it.getString("filename").equals("invalid.zip"));
+        assertThat(filter(events, WorkbookWriteEvent.class))
+                .hasSize(2)
+                .allMatch(it -> it.getInt("rows") == 100 && it.getLong("bytes") > 0);
+        assertThat(filter(events, WorkbookReadEvent.class))
+                .hasSize(1)
+                .allMatch(it -> it.getInt("rows") == 100 && it.getBoolean("snapshot"));
+    }
+
+    private static List<RecordedEvent> filter(List<RecordedEvent> events, Class<?> type) {
+        String name = type.getAnnotation(Name.class).value();
+        return events.stream().filter(it -> it.getEventType().getName().equals(name)).collect(toList());
+    }
+
+}
@@ -0,0 +1,47 @@
+package io.github.imsejin.wnliext.common.util;
+
+import io.github.imsejin.wnliext.file.SyntheticLibrary;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of calculating version of webtoon list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GeneralUtilsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Webtoon> webtoons;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.webtoons = SyntheticLibrary.builder().size(this.size).build().webtoons();
+    }
+
+    @Benchmark
+    public String calcVersion() {
+        return GeneralUtils.calcVersion(this.webtoons);
+    }
+
+}
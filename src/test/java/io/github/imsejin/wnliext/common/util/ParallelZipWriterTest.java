@@ -0,0 +1,95 @@
+package io.github.imsejin.wnliext.common.util;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ParallelZipWriterTest {
+
+    @Test
+    @SneakyThrows
+    void writeZip64(@TempDir Path path) {
+        // given
+        File file = Files.write(path.resolve("page.txt"), "page".getBytes(StandardCharsets.UTF_8)).toFile();
+        File zipFile = path.resolve("many.zip").toFile();
+        int count = 0xFFFF + 100;
+
+        // when
+        try (ParallelZipWriter writer = new ParallelZipWriter(new FileOutputStream(zipFile), 2, 1)) {
+            for (int i = 0; i < count; i++) {
+                writer.write(String.format("%05d/page.txt", i), file);
+            }
+        }
+
+        // then
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            assertThat(zip.size()).isEqualTo(count);
+            assertThat(zip.getInputStream(zip.getEntry("65600/page.txt")).readAllBytes())
+                    .isEqualTo("page".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void storeIntoStream(@TempDir Path path) {
+        // given
+        byte[] image = new byte[ParallelZipWriter.BLOCK_SIZE + 1];
+        new Random(1).nextBytes(image);
+        File file = Files.write(path.resolve("01.jpg"), image).toFile();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (ParallelZipWriter writer = new ParallelZipWriter(out, 2, -1)) {
+            writer.store("01.jpg", file);
+            writer.write("02.jpg", file);
+        }
+
+        // then
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry stored = in.getNextEntry();
+            assertThat(stored.getMethod()).isEqualTo(ZipEntry.STORED);
+            assertThat(stored.getCompressedSize()).isEqualTo(image.length);
+            assertThat(in.readAllBytes()).isEqualTo(image);
+            assertThat(in.getNextEntry().getMethod()).isEqualTo(ZipEntry.DEFLATED);
+            assertThat(in.readAllBytes()).isEqualTo(image);
+        }
+    }
+
+    @Test
+    void dosTime() {
+        // given
+        long millis = LocalDateTime.of(2021, 3, 4, 5, 6, 7)
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // expect
+        assertThat(ParallelZipWriter.dosTime(millis))
+                .isEqualTo((2021L - 1980) << 25 | 3 << 21 | 4 << 16 | 5 << 11 | 6 << 5 | 7 >> 1);
+        assertThat(ParallelZipWriter.dosTime(0)).isEqualTo(1 << 21 | 1 << 16);
+    }
+
+    @Test
+    void validate() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ParallelZipWriter(new ByteArrayOutputStream(), 0, 1));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ParallelZipWriter(new ByteArrayOutputStream(), 1, 10));
+    }
+
+}
@@ -0,0 +1,86 @@
+package io.github.imsejin.wnliext.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Benchmarks of reading metadata of entries in an archive.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ZipCentralDirectoryBenchmark {
+
+    @Param({"100", "1000"})
+    private int entries;
+
+    private Path zipPath;
+
+    private final ZipCentralDirectory directory = new ZipCentralDirectory();
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.zipPath = Files.createTempFile("benchmark", ".zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(this.zipPath), Charset.forName("CP949"))) {
+            for (int i = 0; i < this.entries; i++) {
+                out.putNextEntry(new ZipEntry(String.format("신의 탑 %03d화/%03d.jpg", i / 50, i % 50)));
+                out.write(i);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.zipPath);
+    }
+
+    @Benchmark
+    public long zipFile() throws IOException {
+        long total = 0;
+        try (ZipFile zip = new ZipFile(this.zipPath.toFile(), Charset.forName("CP949"))) {
+            for (Enumeration<? extends ZipEntry> it = zip.entries(); it.hasMoreElements(); ) {
+                ZipEntry entry = it.nextElement();
+                total += entry.getSize() + entry.getCompressedSize() + entry.getCrc() + entry.getName().length();
+            }
+        }
+
+        return total;
+    }
+
+    @Benchmark
+    public long centralDirectory() throws IOException {
+        ZipCentralDirectory directory = this.directory.load(this.zipPath);
+
+        long total = 0;
+        for (int i = 0; i < directory.size(); i++) {
+            total += directory.size(i) + directory.compressedSize(i) + directory.crc(i) + directory.name(i).length();
+        }
+
+        return total;
+    }
+
+}
@@ -0,0 +1,237 @@
+package io.github.imsejin.wnliext.common.util;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ZipCentralDirectoryTest {
+
+    @Test
+    @SneakyThrows
+    void read(@TempDir Path path) {
+        // given
+        byte[] page = "page".getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(page);
+        Path zipPath = path.resolve("archive.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipPath), Charset.forName("CP949"))) {
+            out.putNextEntry(new ZipEntry("신의 탑/"));
+            ZipEntry stored = new ZipEntry("신의 탑/01.jpg");
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(page.length);
+            stored.setCrc(crc.getValue());
+            out.putNextEntry(stored);
+            out.write(page);
+            out.putNextEntry(new ZipEntry("info.txt"));
+            out.write(new byte[1000]);
+            out.setComment("comment");
+        }
+
+        try (FileChannel channel = FileChannel.open(zipPath, StandardOpenOption.READ)) {
+            // when
+            ZipCentralDirectory directory = new ZipCentralDirectory().load(channel);
+
+            // then
+            assertThat(directory.size()).isEqualTo(3);
+            assertThat(directory.name(0)).isEqualTo("신의 탑/");
+            assertThat(directory.isDirectory(0)).isTrue();
+            assertThat(directory.name(1)).isEqualTo("신의 탑/01.jpg");
+            assertThat(directory.isDirectory(1)).isFalse();
+            assertThat(directory.method(1)).isEqualTo(ZipEntry.STORED);
+            assertThat(directory.crc(1)).isEqualTo(crc.getValue());
+            assertThat(directory.size(1)).isEqualTo(directory.compressedSize(1)).isEqualTo(page.length);
+            assertThat(directory.method(2)).isEqualTo(ZipEntry.DEFLATED);
+            assertThat(directory.size(2)).isEqualTo(1000);
+            assertThat(directory.compressedSize(2)).isLessThan(1000);
+
+            ByteBuffer data = ByteBuffer.allocate(page.length);
+            channel.read(data, directory.dataOffset(channel, 1));
+            assertThat(data.array()).isEqualTo(page);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void readZip64(@TempDir Path path) {
+        // given
+        Path zipPath = path.resolve("many.zip");
+        int count = 0xFFFF + 10;
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipPath))) {
+            for (int i = 0; i < count; i++) {
+                out.putNextEntry(new ZipEntry(String.format("%05d.txt", i)));
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(zipPath, StandardOpenOption.READ)) {
+            // when
+            ZipCentralDirectory directory = new ZipCentralDirectory().load(channel);
+
+            // then
+            assertThat(directory.size()).isEqualTo(count);
+            assertThat(directory.name(count - 1)).isEqualTo(String.format("%05d.txt", count - 1));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void reload(@TempDir Path path) {
+        // given
+        Path large = path.resolve("large.zip");
+        int count = 5000;
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(large))) {
+            for (int i = 0; i < count; i++) {
+                out.putNextEntry(new ZipEntry(String.format("episode-%04d/%s.jpg", i / 50, "page".repeat(10) + i)));
+                out.write(i);
+            }
+        }
+        Path small = path.resolve("small.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(small))) {
+            out.putNextEntry(new ZipEntry("only.txt"));
+            out.write(new byte[10]);
+            // Comment longer than the tail which is read first.
+            out.setComment("x".repeat(5000));
+        }
+        ZipCentralDirectory directory = new ZipCentralDirectory();
+
+        // expect
+        for (int round = 0; round < 2; round++) {
+            // Central directory of about 500 KiB is memory-mapped.
+            directory.load(large);
+            assertThat(directory.size()).isEqualTo(count);
+            assertThat(directory.name(count - 1)).isEqualTo("episode-0099/" + "page".repeat(10) + (count - 1) + ".jpg");
+            assertThat(directory.size(count - 1)).isOne();
+
+            directory.load(small);
+            assertThat(directory.size()).isOne();
+            assertThat(directory.name(0)).isEqualTo("only.txt");
+            assertThat(directory.size(0)).isEqualTo(10);
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> directory.name(1));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void readZip64Extra(@TempDir Path path) {
+        // given
+        byte[] name = "a.txt".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer archive = ByteBuffer.allocate(200).order(ByteOrder.LITTLE_ENDIAN);
+        // Local header of stored entry, whose data is "a".
+        archive.putInt(0x04034B50).putShort((short) 45).putShort((short) 0).putShort((short) 0).putInt(0)
+                .putInt(0xE8B7BE43).putInt(1).putInt(1).putShort((short) name.length).putShort((short) 0)
+                .put(name).put((byte) 'a');
+        int centralOffset = archive.position();
+        // Central header whose sizes and offset are in Zip64 extra.
+        archive.putInt(0x02014B50).putShort((short) 45).putShort((short) 45).putShort((short) 0)
+                .putShort((short) 0).putInt(0).putInt(0xE8B7BE43).putInt(-1).putInt(-1)
+                .putShort((short) name.length).putShort((short) 28).putShort((short) 0).putShort((short) 0)
+                .putShort((short) 0).putInt(0).putInt(-1).put(name)
+                .putShort((short) 1).putShort((short) 24).putLong(1).putLong(1).putLong(0);
+        int centralSize = archive.position() - centralOffset;
+        archive.putInt(0x06054B50).putShort((short) 0).putShort((short) 0).putShort((short) 1).putShort((short) 1)
+                .putInt(centralSize).putInt(centralOffset).putShort((short) 0);
+        Path zipPath = Files.write(path.resolve("zip64.zip"), Arrays.copyOf(archive.array(), archive.position()));
+
+        try (FileChannel channel = FileChannel.open(zipPath, StandardOpenOption.READ)) {
+            // when
+            ZipCentralDirectory directory = new ZipCentralDirectory().load(channel);
+
+            // then
+            assertThat(directory.size()).isOne();
+            assertThat(directory.name(0)).isEqualTo("a.txt");
+            assertThat(directory.crc(0)).isEqualTo(0xE8B7BE43L);
+            assertThat(directory.size(0)).isOne();
+            assertThat(directory.compressedSize(0)).isOne();
+            assertThat(directory.localHeaderOffset(0)).isZero();
+            assertThat(directory.dataOffset(channel, 0)).isEqualTo(30 + name.length);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1000, 65530})
+    @SneakyThrows
+    void readZip64WithComment(int commentLength, @TempDir Path path) {
+        // given
+        byte[] name = "a.txt".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer archive = ByteBuffer.allocate(200 + commentLength).order(ByteOrder.LITTLE_ENDIAN);
+        // Local header of stored entry, whose data is "a".
+        archive.putInt(0x04034B50).putShort((short) 45).putShort((short) 0).putShort((short) 0).putInt(0)
+                .putInt(0xE8B7BE43).putInt(1).putInt(1).putShort((short) name.length).putShort((short) 0)
+                .put(name).put((byte) 'a');
+        int centralOffset = archive.position();
+        archive.putInt(0x02014B50).putShort((short) 45).putShort((short) 45).putShort((short) 0)
+                .putShort((short) 0).putInt(0).putInt(0xE8B7BE43).putInt(1).putInt(1)
+                .putShort((short) name.length).putShort((short) 0).putShort((short) 0).putShort((short) 0)
+                .putShort((short) 0).putInt(0).putInt(0).put(name);
+        int centralSize = archive.position() - centralOffset;
+        // Zip64 end of central directory and its locator, which precede end of central directory.
+        int end64Offset = archive.position();
+        archive.putInt(0x06064B50).putLong(44).putShort((short) 45).putShort((short) 45).putInt(0).putInt(0)
+                .putLong(1).putLong(1).putLong(centralSize).putLong(centralOffset);
+        archive.putInt(0x07064B50).putInt(0).putLong(end64Offset).putInt(1);
+        // Comment of 1000 bytes or 65530 bytes puts the locator out of the tail where the end is found.
+        archive.putInt(0x06054B50).putShort((short) 0).putShort((short) 0).putShort((short) -1).putShort((short) -1)
+                .putInt(-1).putInt(-1).putShort((short) commentLength).put(new byte[commentLength]);
+        Path zipPath = Files.write(path.resolve("zip64.zip"), Arrays.copyOf(archive.array(), archive.position()));
+
+        // when
+        ZipCentralDirectory directory = new ZipCentralDirectory().load(zipPath);
+
+        // then
+        assertThat(directory.size()).isOne();
+        assertThat(directory.name(0)).isEqualTo("a.txt");
+        assertThat(directory.size(0)).isOne();
+    }
+
+    @Test
+    @SneakyThrows
+    void readTruncated(@TempDir Path path) {
+        // given
+        Path zipPath = path.resolve("truncated.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipPath))) {
+            out.putNextEntry(new ZipEntry("info.txt"));
+            out.write(new byte[10]);
+        }
+        // Length of the name in the central header runs past the central directory.
+        byte[] bytes = Files.readAllBytes(zipPath);
+        ByteBuffer archive = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        int central = 0;
+        while (archive.getInt(central) != 0x02014B50) central++;
+        archive.putShort(central + 28, (short) 0x7FFF);
+        Files.write(zipPath, bytes);
+
+        // expect
+        assertThatExceptionOfType(ZipException.class).isThrownBy(() -> new ZipCentralDirectory().load(zipPath));
+    }
+
+    @Test
+    @SneakyThrows
+    void readInvalid(@TempDir Path path) {
+        // given
+        Path file = Files.write(path.resolve("invalid.zip"), new byte[100]);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // expect
+            assertThatExceptionOfType(ZipException.class).isThrownBy(() -> new ZipCentralDirectory().load(channel));
+        }
+    }
+
+}
@@ -0,0 +1,353 @@
+package io.github.imsejin.wnliext.common.util;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ZipUtilsTest {
+
+    @ParameterizedTest
+    @CsvSource({"1,-1", "4,-1", "4,0", "3,9"})
+    @SneakyThrows
+    void compress(int parallelism, int level, @TempDir Path path) {
+        // given
+        Map<String, byte[]> contents = contents();
+        for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+            Files.write(path.resolve(entry.getKey()), entry.getValue());
+        }
+        Files.createDirectory(path.resolve("dir"));
+
+        // when
+        File zipFile = ZipUtils.compress(path, "archive", false, parallelism, level);
+
+        // then
+        assertThat(zipFile).isNotNull().hasName("archive.zip");
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            assertThat(zip.size()).isEqualTo(contents.size());
+            for (Map.Entry<String, byte[]> expected : contents.entrySet()) {
+                ZipEntry entry = zip.getEntry(expected.getKey());
+                assertThat(entry).as(expected.getKey()).isNotNull();
+                assertThat(entry.getSize()).isEqualTo(expected.getValue().length);
+                assertThat(entry.getCrc()).isEqualTo(crc(expected.getValue()));
+                assertThat(zip.getInputStream(entry).readAllBytes()).isEqualTo(expected.getValue());
+            }
+        }
+        // Entries with data descriptor are readable sequentially too.
+        try (ZipInputStream in = new ZipInputStream(new FileInputStream(zipFile))) {
+            int count = 0;
+            for (ZipEntry entry; (entry = in.getNextEntry()) != null; count++) {
+                assertThat(in.readAllBytes()).isEqualTo(contents.get(entry.getName()));
+            }
+            assertThat(count).isEqualTo(contents.size());
+        }
+        assertThat(path.resolve("text.txt")).exists();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"true", "false"})
+    @SneakyThrows
+    void compressAndDelete(boolean willDelete, @TempDir Path path) {
+        // given
+        Files.write(path.resolve("a.txt"), "a".getBytes(StandardCharsets.UTF_8));
+        Files.write(path.resolve("old.zip"), new byte[0]);
+
+        // when
+        File zipFile = ZipUtils.compress(path, "archive.zip", willDelete, 2, -1);
+
+        // then
+        assertThat(ZipUtils.getEntryNames(zipFile)).containsExactly("a.txt");
+        assertThat(path.resolve("a.txt").toFile().exists()).isNotEqualTo(willDelete);
+        assertThat(path.resolve("old.zip")).exists();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"false, 'empty dir/,신의 탑/001화/01.jpg,info.txt'", "true, '01.jpg,info.txt'"})
+    @SneakyThrows
+    void getEntryNames(boolean exceptDir, String expected, @TempDir Path path) {
+        // given
+        Path zipPath = path.resolve("archive.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipPath), Charset.forName("CP949"))) {
+            out.putNextEntry(new ZipEntry("empty dir/"));
+            out.putNextEntry(new ZipEntry("신의 탑/001화/01.jpg"));
+            out.putNextEntry(new ZipEntry("info.txt"));
+        }
+
+        // when
+        List<String> entryNames = ZipUtils.getEntryNames(zipPath.toFile(), exceptDir);
+
+        // then
+        assertThat(entryNames).containsExactly(expected.split(","));
+        assertThat(ZipUtils.getEntryNames(Files.write(path.resolve("invalid.zip"), new byte[10]).toFile())).isNull();
+    }
+
+    @Test
+    @SneakyThrows
+    void getCentralDirectory(@TempDir Path path) {
+        // given
+        Path zipPath = path.resolve("archive.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipPath), Charset.forName("CP949"))) {
+            out.putNextEntry(new ZipEntry("001화/"));
+            out.putNextEntry(new ZipEntry("001화/01.jpg"));
+            out.write(new byte[100]);
+        }
+
+        // when
+        ZipCentralDirectory directory = ZipUtils.getCentralDirectory(zipPath.toFile());
+
+        // then
+        assertThat(directory.size()).isEqualTo(2);
+        assertThat(directory.name(1)).isEqualTo("001화/01.jpg");
+        assertThat(directory.size(1)).isEqualTo(100);
+        assertThat(ZipUtils.getCentralDirectory(Files.write(path.resolve("invalid.zip"), new byte[10]).toFile())).isNull();
+        assertThat(ZipUtils.getCentralDirectory(Files.createFile(path.resolve("archive.rar")).toFile())).isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1", "3"})
+    @SneakyThrows
+    void compressWithStoredMedia(int parallelism, @TempDir Path path) {
+        // given
+        Map<String, byte[]> contents = contents();
+        byte[] image = new byte[ParallelZipWriter.BLOCK_SIZE * 2 + 7];
+        new Random(7).nextBytes(image);
+        contents.put("01.jpg", image);
+        contents.put("02.PNG", Arrays.copyOf(image, 100));
+        contents.put("03.webp", new byte[0]);
+        for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+            Files.write(path.resolve(entry.getKey()), entry.getValue());
+        }
+
+        // when
+        File zipFile = ZipUtils.compress(path, "archive", false, parallelism, -1, true);
+
+        // then
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            for (Map.Entry<String, byte[]> expected : contents.entrySet()) {
+                ZipEntry entry = zip.getEntry(expected.getKey());
+                boolean media = expected.getKey().matches("(?i).+\\.(jpg|png|webp)");
+                assertThat(entry.getMethod()).as(expected.getKey())
+                        .isEqualTo(media ? ZipEntry.STORED : ZipEntry.DEFLATED);
+                assertThat(entry.getCrc()).isEqualTo(crc(expected.getValue()));
+                assertThat(zip.getInputStream(entry).readAllBytes()).isEqualTo(expected.getValue());
+            }
+        }
+        // Stored entries without data descriptor are readable sequentially too.
+        try (ZipInputStream in = new ZipInputStream(new FileInputStream(zipFile))) {
+            int count = 0;
+            for (ZipEntry entry; (entry = in.getNextEntry()) != null; count++) {
+                assertThat(in.readAllBytes()).isEqualTo(contents.get(entry.getName()));
+            }
+            assertThat(count).isEqualTo(contents.size());
+        }
+
+        // when
+        Path dest = path.resolve("dest");
+        ZipUtils.decompress(zipFile, dest, false, parallelism);
+
+        // then
+        for (Map.Entry<String, byte[]> expected : contents.entrySet()) {
+            assertThat(Files.readAllBytes(dest.resolve(expected.getKey()))).isEqualTo(expected.getValue());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1", "4"})
+    @SneakyThrows
+    void decompress(int parallelism, @TempDir Path path) {
+        // given
+        Map<String, byte[]> contents = contents();
+        contents.put("신의 탑/001화/01.jpg", "page".getBytes(StandardCharsets.UTF_8));
+        Path zipPath = path.resolve("archive.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipPath), Charset.forName("CP949"))) {
+            out.putNextEntry(new ZipEntry("empty dir/"));
+            for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+                out.putNextEntry(new ZipEntry(entry.getKey()));
+                out.write(entry.getValue());
+            }
+        }
+        Path dest = path.resolve("dest");
+
+        // when
+        ZipUtils.decompress(zipPath.toFile(), dest, true, parallelism);
+
+        // then
+        for (Map.Entry<String, byte[]> expected : contents.entrySet()) {
+            assertThat(Files.readAllBytes(dest.resolve(expected.getKey()))).isEqualTo(expected.getValue());
+        }
+        assertThat(dest.resolve("empty dir")).isEmptyDirectory();
+        assertThat(zipPath).doesNotExist();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1", "2"})
+    @SneakyThrows
+    void decompressDuplicatedEntries(int parallelism, @TempDir Path path) {
+        // given
+        Path zipPath = path.resolve("duplicated.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipPath))) {
+            out.putNextEntry(new ZipEntry("001/a.txt"));
+            out.write("first".getBytes(StandardCharsets.UTF_8));
+            out.putNextEntry(new ZipEntry("002/a.txt"));
+            out.write("second".repeat(1000).getBytes(StandardCharsets.UTF_8));
+            out.putNextEntry(new ZipEntry("other.txt"));
+            out.write("other".getBytes(StandardCharsets.UTF_8));
+        }
+        // ZipOutputStream rejects duplicated names, so the second name is renamed
+        // in its local header and central header.
+        byte[] archive = Files.readAllBytes(zipPath);
+        byte[] second = "002/a.txt".getBytes(StandardCharsets.UTF_8);
+        archive[indexOf(archive, second) + 2] = '1';
+        archive[indexOf(archive, second) + 2] = '1';
+        Files.write(zipPath, archive);
+        Path dest = path.resolve("dest");
+
+        // when
+        List<Path> files = ParallelZipExtractor.extract(zipPath.toFile(), dest, parallelism);
+
+        // then
+        assertThat(files).hasSize(2);
+        assertThat(dest.resolve("001/a.txt")).hasContent("second".repeat(1000));
+        assertThat(dest.resolve("other.txt")).hasContent("other");
+        assertThat(dest.resolve("002")).doesNotExist();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0", "8"})
+    @SneakyThrows
+    void decompressRejectsCorruptedEntry(int method, @TempDir Path path) {
+        // given
+        byte[] image = new byte[4096];
+        new Random(42).nextBytes(image);
+        Path zipPath = path.resolve("corrupted.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipPath))) {
+            ZipEntry entry = new ZipEntry("01.jpg");
+            entry.setMethod(method);
+            entry.setSize(image.length);
+            entry.setCrc(crc(image));
+            out.putNextEntry(entry);
+            out.write(image);
+        }
+        // Random data is kept as it is even if deflated, so one byte of it is flipped in the archive.
+        byte[] archive = Files.readAllBytes(zipPath);
+        int index = indexOf(archive, Arrays.copyOfRange(image, 1000, 1032));
+        archive[index] ^= 1;
+        Files.write(zipPath, archive);
+        Path dest = path.resolve("dest");
+
+        // expect
+        assertThatExceptionOfType(ZipException.class)
+                .isThrownBy(() -> ParallelZipExtractor.extract(zipPath.toFile(), dest, 1))
+                .withMessageContaining("Invalid CRC of entry 01.jpg");
+        ZipUtils.decompress(zipPath.toFile(), dest, true, 1);
+        assertThat(zipPath).exists();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"../outside.txt", "inner/../../outside.txt"})
+    @SneakyThrows
+    void decompressRejectsEntryOutsideOfDestination(String entryName, @TempDir Path path) {
+        // given
+        Path zipPath = path.resolve("evil.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipPath))) {
+            out.putNextEntry(new ZipEntry("inside.txt"));
+            out.putNextEntry(new ZipEntry(entryName));
+            out.write("evil".getBytes(StandardCharsets.UTF_8));
+        }
+        Path dest = path.resolve("dest");
+
+        // when
+        ZipUtils.decompress(zipPath.toFile(), dest, false, 2);
+
+        // then
+        assertThat(path.resolve("outside.txt")).doesNotExist();
+        assertThat(dest.resolve("inside.txt")).doesNotExist();
+        assertThat(zipPath).exists();
+    }
+
+    @Test
+    @SneakyThrows
+    @SuppressWarnings("deprecation")
+    void decompressAll(@TempDir Path path) {
+        // given
+        ByteArrayOutputStream inner = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(inner)) {
+            out.putNextEntry(new ZipEntry("a.txt"));
+            out.write("a".getBytes(StandardCharsets.UTF_8));
+        }
+        Path zipPath = path.resolve("outer.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipPath))) {
+            out.putNextEntry(new ZipEntry("nested/inner.zip"));
+            out.write(inner.toByteArray());
+        }
+        Path dest = path.resolve("dest");
+
+        // when
+        ZipUtils.decompressAll(zipPath.toFile(), dest, true);
+
+        // then
+        assertThat(dest.resolve("nested/a.txt")).hasContent("a");
+        assertThat(dest.resolve("nested/inner.zip")).doesNotExist();
+    }
+
+    private static Map<String, byte[]> contents() {
+        Random random = new Random(42);
+        Map<String, byte[]> contents = new HashMap<>();
+
+        // Incompressible data across multiple blocks, whose last block is partial.
+        byte[] noise = new byte[ParallelZipWriter.BLOCK_SIZE * 3 + 1234];
+        random.nextBytes(noise);
+        contents.put("noise.bin", noise);
+
+        // Compressible data across multiple blocks, which refers to the previous block.
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < ParallelZipWriter.BLOCK_SIZE * 5) {
+            sb.append("Episode ").append(random.nextInt(300)).append(" of 신의 탑\n");
+        }
+        contents.put("text.txt", sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        contents.put("exact.bin", new byte[ParallelZipWriter.BLOCK_SIZE]);
+        contents.put("empty.txt", new byte[0]);
+        contents.put("웹툰 001화.jpg", "image".getBytes(StandardCharsets.UTF_8));
+
+        return contents;
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i <= bytes.length - target.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) return i;
+        }
+
+        throw new IllegalArgumentException("Target is not found");
+    }
+
+    private static long crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+}
@@ -0,0 +1,87 @@
+package io.github.imsejin.wnliext.console;
+
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsoleOutputTest {
+
+    private static final List<Webtoon> WEBTOONS = Arrays.asList(
+            webtoon(Platform.NAVER, "A", true, 1_000),
+            webtoon(Platform.NAVER, "B", false, 2_000),
+            webtoon(Platform.DAUM, "C", true, 3_000));
+
+    @Test
+    @SneakyThrows
+    void printWebtoons() {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream stream = new PrintStream(out, false, "UTF-8");
+
+        // when
+        ConsoleOutput.printWebtoons(stream, WEBTOONS);
+        stream.flush();
+
+        // then
+        String printed = out.toString(StandardCharsets.UTF_8.name());
+        assertThat(printed.split(System.lineSeparator()))
+                .hasSize(5)
+                .contains("Total 3 webtoons");
+        assertThat(printed).contains("title=A", "title=B", "title=C");
+    }
+
+    @Test
+    @SneakyThrows
+    void printSummary() {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream stream = new PrintStream(out, false, "UTF-8");
+
+        // when
+        ConsoleOutput.printSummary(stream, WEBTOONS);
+        stream.flush();
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8.name()).trim().split(System.lineSeparator());
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("Platform");
+        // Platforms are in order of declaration.
+        assertThat(lines[1].split("\\s+")).containsExactly("Daum", "1", "1", "0", "3,000");
+        assertThat(lines[2].split("\\s+")).containsExactly("Naver", "2", "1", "1", "3,000");
+        assertThat(lines[3].split("\\s+")).containsExactly("Total", "3", "2", "1", "6,000");
+    }
+
+    @Test
+    @SneakyThrows
+    void printSummaryWithNoWebtoons() {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream stream = new PrintStream(out, false, "UTF-8");
+
+        // when
+        ConsoleOutput.printSummary(stream, Collections.emptyList());
+        stream.flush();
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8.name()).trim().split(System.lineSeparator());
+        assertThat(lines).hasSize(2);
+        assertThat(lines[1].split("\\s+")).containsExactly("Total", "0", "0", "0", "0");
+    }
+
+    private static Webtoon webtoon(Platform platform, String title, boolean completed, long size) {
+        return Webtoon.builder().platform(platform).title(title).authors(Collections.singletonList("author"))
+                .completed(completed).creationTime(LocalDateTime.of(2021, 1, 1, 0, 0)).size(size).build();
+    }
+
+}
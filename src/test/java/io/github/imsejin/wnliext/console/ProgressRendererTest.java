@@ -0,0 +1,48 @@
+package io.github.imsejin.wnliext.console;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProgressRendererTest {
+
+    @Test
+    @SneakyThrows
+    void render() {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ProgressRenderer.enable(new PrintStream(out, true, "UTF-8"));
+
+        // when
+        try (ProgressTask parsing = ProgressRenderer.start("Parsing", 10_000);
+             ProgressTask scanning = ProgressRenderer.start("Scanning", 0)) {
+            IntStream.range(0, 10_000).parallel().forEach(i -> {
+                parsing.step();
+                if (i % 100 == 0) scanning.step();
+            });
+            Thread.sleep(300);
+        }
+        ProgressRenderer.disable();
+        String rendered = out.toString(StandardCharsets.UTF_8.name());
+
+        ProgressTask disabled = ProgressRenderer.start("Disabled", 1);
+        disabled.step();
+        disabled.close();
+
+        // then
+        assertThat(rendered)
+                .contains("Parsing... (10000/10000)")
+                .contains("Scanning... (100)")
+                .doesNotContain("Disabled");
+        // Each frame is drawn only when progress has changed.
+        assertThat(rendered.split("Parsing... \\(10000/10000\\)", -1)).hasSizeLessThanOrEqualTo(3);
+        assertThat(disabled.getDone()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,46 @@
+package io.github.imsejin.wnliext.console;
+
+import io.github.imsejin.wnliext.common.ApplicationMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TerminalTest {
+
+    @Test
+    void detectAnsi() {
+        // given
+        Map<String, String> xterm = Collections.singletonMap("TERM", "xterm-256color");
+        Map<String, String> dumb = Collections.singletonMap("TERM", "dumb");
+        Map<String, String> windowsTerminal = new HashMap<>();
+        windowsTerminal.put("WT_SESSION", "0");
+
+        // expect
+        assertThat(Terminal.detectAnsi(null, true, "Linux", xterm)).isTrue();
+        assertThat(Terminal.detectAnsi(null, true, "Linux", dumb)).isFalse();
+        assertThat(Terminal.detectAnsi(null, false, "Linux", xterm)).isFalse();
+        assertThat(Terminal.detectAnsi(null, true, "Windows 10", Collections.emptyMap())).isFalse();
+        assertThat(Terminal.detectAnsi(null, true, "Windows 10", windowsTerminal)).isTrue();
+        assertThat(Terminal.detectAnsi("true", false, "Linux", dumb)).isTrue();
+        assertThat(Terminal.detectAnsi("false", true, "Linux", xterm)).isFalse();
+    }
+
+    @Test
+    void renderLogo() {
+        // given
+        String[] title = ApplicationMetadata.APPLICATION_TITLE;
+
+        // when
+        String logo = ConsolePrinter.renderLogo(title);
+
+        // then
+        String plain = logo.replaceAll("\u001B\\[[;\\d]*m", "");
+        assertThat(plain.split(System.lineSeparator())).containsExactly(title);
+        if (!Terminal.isAnsi()) assertThat(logo).isEqualTo(plain);
+    }
+
+}
@@ -0,0 +1,120 @@
+package io.github.imsejin.wnliext.excel;
+
+import io.github.imsejin.wnliext.common.ApplicationOptions;
+import io.github.imsejin.wnliext.file.SyntheticLibrary;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks of writing, reading and merging webtoon lists.
+ *
+ * <p> Writing and reading a workbook takes seconds, so they are measured in single shots.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ExcelExecutorBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private Path dir;
+
+    private List<Webtoon> webtoons;
+
+    private List<Webtoon> oldWebtoons;
+
+    private File listFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.dir = Files.createTempDirectory("wnliext-benchmark");
+        this.webtoons = SyntheticLibrary.builder().size(this.size).build().webtoons();
+        this.oldWebtoons = SyntheticLibrary.builder().size(this.size).build().webtoons();
+
+        ExcelExecutor.create(this.webtoons, this.dir.toString(), options());
+        try (Stream<Path> paths = Files.list(this.dir)) {
+            this.listFile = paths.filter(it -> it.toString().endsWith(".xlsx"))
+                    .findFirst().orElseThrow(IllegalStateException::new).toFile();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SyntheticLibrary.delete(this.dir);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public void write(Output output) {
+        ExcelExecutor.create(this.webtoons, output.dir.toString(), options());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public List<Webtoon> read() {
+        List<Webtoon> webtoons = new ArrayList<>(this.size);
+        WebtoonListReader.read(this.listFile, webtoons::add);
+        return webtoons;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public void overwriteDateTime(Blackhole blackhole) {
+        blackhole.consume(ExcelExecutor.overwriteDateTime(this.oldWebtoons, this.webtoons));
+    }
+
+    /**
+     * Directory where each invocation writes a list, which is deleted after the invocation
+     * so that written lists don't pile up on disk and in page cache across iterations.
+     */
+    @State(Scope.Thread)
+    public static class Output {
+
+        private Path dir;
+
+        @Setup(Level.Invocation)
+        public void setup() throws Exception {
+            this.dir = Files.createTempDirectory("wnliext-benchmark-write");
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            SyntheticLibrary.delete(this.dir);
+        }
+
+    }
+
+    private ApplicationOptions options() {
+        // Large lists don't fit in memory without streaming.
+        return ApplicationOptions.builder().pathname(this.dir.toString()).streaming(true).build();
+    }
+
+}
@@ -1,16 +1,25 @@
 package io.github.imsejin.wnliext.excel;
 
 import com.github.javaxcel.factory.ExcelReaderFactory;
+import io.github.imsejin.wnliext.common.ApplicationOptions;
 import io.github.imsejin.wnliext.common.util.ZipUtils;
 import io.github.imsejin.wnliext.file.FileFinder;
+import io.github.imsejin.wnliext.file.SyntheticLibrary;
+import io.github.imsejin.wnliext.file.WebtoonSnapshot;
+import io.github.imsejin.wnliext.file.model.Platform;
 import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.Cleanup;
 import lombok.SneakyThrows;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -18,18 +27,20 @@ import java.util.Optional;
 
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class ExcelExecutorTest {
 
     @Test
     @SneakyThrows
-    void overwriteCreationTime() {
+    void overwriteCreationTime(@TempDir Path path) {
         // given
-        String pathname = "D:/Cartoons/Webtoons";
+        String pathname = SyntheticLibrary.builder().build().generate(path).toString();
+        ExcelExecutor.create(SyntheticLibrary.builder().build().webtoons(), pathname);
         List<Webtoon> webtoons = FileFinder.findWebtoons(pathname);
         File file = FileFinder.findLatestWebtoonList(pathname);
 
-        if (file == null) return;
+        assertThat(file).isNotNull();
 
         // when
         Workbook oldWorkbook = new XSSFWorkbook(new FileInputStream(file));
@@ -47,12 +58,13 @@ class ExcelExecutorTest {
     }
 
     @Test
-    void convertFileToWebtoon() {
+    void convertFileToWebtoon(@TempDir Path path) {
         // given
-        String pathname = "D:/Cartoons/Webtoons";
+        SyntheticLibrary library = SyntheticLibrary.builder().duplicateRatio(0.1).build();
+        String pathname = library.generate(path).toString();
         File[] arr = new File(pathname).listFiles();
 
-        if (arr == null) return;
+        assertThat(arr).isNotNull();
 
         // when
         List<File> files = Arrays.asList(arr);
@@ -71,6 +83,65 @@ class ExcelExecutorTest {
         // Checks duplicated webtoons.
         duplicates.stream().filter(it -> Collections.frequency(duplicates, it) > 1)
                 .forEach(System.out::println);
+        assertThat(duplicates).hasSameSizeAs(library.webtoons()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @SneakyThrows
+    void createWithStreaming(@TempDir Path path) {
+        // given
+        List<Webtoon> webtoons = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 1000; i++) {
+            webtoons.add(Webtoon.builder().platform(Platform.values()[i % Platform.values().length])
+                    .title("title-" + i).authors(Arrays.asList("author-" + i, "author"))
+                    .completed(i % 2 == 0).creationTime(now.minusMinutes(i)).size(i * 1024L).build());
+        }
+        ApplicationOptions options = ApplicationOptions.builder().pathname(path.toString())
+                .streaming(true).rowWindow(10).compressTempFiles(true).build();
+
+        // when
+        ExcelExecutor.create(webtoons, path.toString(), options);
+
+        // then
+        File file = FileFinder.findLatestWebtoonList(path.toString());
+        assertThat(file).isNotNull();
+        @Cleanup Workbook workbook = new XSSFWorkbook(file);
+        List<Webtoon> actual = ExcelReaderFactory.create(workbook, Webtoon.class).read();
+        assertThat(actual).containsExactlyElementsOf(webtoons);
+        for (int i = 0; i < webtoons.size(); i++) {
+            assertThat(actual.get(i).getCreationTime()).isEqualTo(webtoons.get(i).getCreationTime());
+            assertThat(actual.get(i).getSize()).isEqualTo(webtoons.get(i).getSize());
+        }
+        assertThat(WebtoonSnapshot.read(file)).containsExactlyElementsOf(webtoons);
+    }
+
+    @Test
+    void overwriteDateTime() {
+        // given
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<Webtoon> oldList = new ArrayList<>();
+        List<Webtoon> newList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            // 0 ~ 79: old, 20 ~ 99: new
+            Webtoon.WebtoonBuilder builder = Webtoon.builder().platform(Platform.NAVER)
+                    .title("title-" + i).authors(Arrays.asList("author-" + i, "author"));
+            if (i < 80) oldList.add(builder.creationTime(now.minusDays(i)).build());
+            if (i >= 20) newList.add(builder.creationTime(i < 50 ? now.minusDays(i) : now).build());
+        }
+
+        // when
+        MergeReport report = ExcelExecutor.overwriteDateTime(oldList, newList);
+
+        // then
+        assertThat(report.getMatched()).isEqualTo(60);
+        assertThat(report.getCarriedOver()).isEqualTo(30);
+        assertThat(report.getAdded()).isEqualTo(20);
+        assertThat(report.getRemoved()).isEqualTo(20);
+        for (Webtoon webtoon : newList) {
+            int i = Integer.parseInt(webtoon.getTitle().substring("title-".length()));
+            assertThat(webtoon.getCreationTime()).isEqualTo(i < 80 ? now.minusDays(i) : now);
+        }
     }
 
 }
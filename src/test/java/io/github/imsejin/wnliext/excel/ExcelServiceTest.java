@@ -4,6 +4,7 @@ import com.github.javaxcel.factory.ExcelReaderFactory;
 import com.github.javaxcel.factory.ExcelWriterFactory;
 import io.github.imsejin.common.util.DateTimeUtils;
 import io.github.imsejin.wnliext.file.FileFinder;
+import io.github.imsejin.wnliext.file.SyntheticLibrary;
 import io.github.imsejin.wnliext.file.model.Webtoon;
 import lombok.Cleanup;
 import lombok.SneakyThrows;
@@ -35,7 +36,7 @@ class ExcelServiceTest {
     @SneakyThrows
     void write(@TempDir Path path) {
         // given
-        String pathname = "F:/Dropbox/cartoons/webtoons";
+        String pathname = SyntheticLibrary.builder().build().generate(path.resolve("library")).toString();
         List<Webtoon> webtoons = FileFinder.findWebtoons(pathname);
 
         // when
@@ -55,9 +56,10 @@ class ExcelServiceTest {
 
     @Test
     @SneakyThrows
-    void read() {
+    void read(@TempDir Path path) {
         // given
-        String pathname = "F:/Dropbox/cartoons/webtoons";
+        String pathname = SyntheticLibrary.builder().build().generate(path).toString();
+        ExcelExecutor.create(FileFinder.findWebtoons(pathname), pathname);
 
         // when & then
         File webtoonList = FileFinder.findLatestWebtoonList(pathname);
@@ -70,6 +72,7 @@ class ExcelServiceTest {
         // then
         webtoons.forEach(System.out::println);
         System.out.printf("filename: %s\nnumber of webtoons: %,d\n", webtoonList, webtoons.size());
+        assertThat(webtoons).hasSize(1000);
     }
 
 }
\ No newline at end of file
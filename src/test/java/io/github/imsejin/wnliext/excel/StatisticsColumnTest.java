@@ -0,0 +1,36 @@
+package io.github.imsejin.wnliext.excel;
+
+import io.github.imsejin.wnliext.file.model.ArchiveStatistics;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatisticsColumnTest {
+
+    @ParameterizedTest
+    @CsvSource({"0, 0.0%", "0.5, 50.0%", "0.97249, 97.2%", "0.97251, 97.3%", "1, 100.0%", "1.0456, 104.6%"})
+    void formatPercent(double ratio, String expected) {
+        assertThat(StatisticsColumn.formatPercent(ratio)).isEqualTo(expected);
+    }
+
+    @Test
+    void write() {
+        // given
+        Webtoon webtoon = new Webtoon();
+        Webtoon empty = new Webtoon();
+        webtoon.setStatistics(new ArchiveStatistics(3, 1024, 10_000_000, 9_500_000));
+        empty.setStatistics(new ArchiveStatistics(0, 0, 0, 0));
+
+        // expect
+        assertThat(StatisticsColumn.values()).extracting(it -> it.write(webtoon))
+                .containsExactly("3", "1,024", "10,000,000", "95.0%");
+        assertThat(StatisticsColumn.values()).extracting(it -> it.write(empty))
+                .containsExactly("0", "0", "0", "");
+        assertThat(StatisticsColumn.values()).extracting(it -> it.write(new Webtoon()))
+                .containsOnly(StatisticsColumn.NOT_AVAILABLE);
+    }
+
+}
@@ -0,0 +1,97 @@
+package io.github.imsejin.wnliext.excel;
+
+import com.github.javaxcel.converter.out.support.OutputConverterSupport;
+import com.github.javaxcel.factory.ExcelWriterFactory;
+import com.github.javaxcel.util.FieldUtils;
+import io.github.imsejin.wnliext.file.SyntheticLibrary;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of converting webtoons into cell values and writing them,
+ * with SpEL expressions on {@link Webtoon} and with {@link WebtoonColumn}.
+ *
+ * <p> Each operation processes 100k rows, and scores are per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WebtoonColumnBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    private List<Webtoon> webtoons;
+
+    private List<Field> fields;
+
+    private OutputConverterSupport<Webtoon> converter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.webtoons = SyntheticLibrary.builder().size(SIZE).multiAuthorRatio(0.3).build().webtoons();
+        this.fields = FieldUtils.getTargetedFields(Webtoon.class);
+        this.converter = new OutputConverterSupport<>(this.fields);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void convertWithExpression(Blackhole blackhole) {
+        for (Webtoon webtoon : this.webtoons) {
+            for (Field field : this.fields) {
+                blackhole.consume(this.converter.convert(webtoon, field));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void convertWithColumn(Blackhole blackhole) {
+        for (Webtoon webtoon : this.webtoons) {
+            for (WebtoonColumn column : WebtoonColumn.values()) {
+                blackhole.consume(column.write(webtoon));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void writeWithExpression() throws Exception {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+            ExcelWriterFactory.create(workbook, Webtoon.class).sheetName("Webtoons").unrotate()
+                    .write(OutputStream.nullOutputStream(), this.webtoons);
+            workbook.dispose();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void writeWithColumn() throws Exception {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+            new WebtoonWriter<>(workbook).sheetName("Webtoons").unrotate()
+                    .write(OutputStream.nullOutputStream(), this.webtoons);
+            workbook.dispose();
+        }
+    }
+
+}
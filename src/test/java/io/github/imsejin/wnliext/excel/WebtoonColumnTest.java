@@ -0,0 +1,68 @@
+package io.github.imsejin.wnliext.excel;
+
+import com.github.javaxcel.converter.out.support.OutputConverterSupport;
+import com.github.javaxcel.util.FieldUtils;
+import io.github.imsejin.common.util.StringUtils;
+import io.github.imsejin.wnliext.file.SyntheticLibrary;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebtoonColumnTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 999, 1000, 12_345, 999_999, 1_000_000, 123_456_789_012L, -1, -1000, -1_234_567, Long.MAX_VALUE})
+    void formatComma(long number) {
+        // when
+        String formatted = WebtoonColumn.formatComma(number);
+
+        // then
+        assertThat(formatted).isEqualTo(StringUtils.formatComma(number));
+        assertThat(WebtoonColumn.parseComma(formatted)).isEqualTo(number);
+    }
+
+    @Test
+    void writeAsExpression() {
+        // given
+        List<Webtoon> webtoons = SyntheticLibrary.builder().size(1000).multiAuthorRatio(0.5).build().webtoons();
+        List<Field> fields = FieldUtils.getTargetedFields(Webtoon.class);
+        OutputConverterSupport<Webtoon> converter = new OutputConverterSupport<>(fields);
+
+        // expect
+        assertThat(WebtoonColumn.values()).extracting(WebtoonColumn::getHeaderName)
+                .containsExactlyElementsOf(FieldUtils.toHeaderNames(fields));
+        for (Webtoon webtoon : webtoons) {
+            for (int i = 0; i < fields.size(); i++) {
+                assertThat(WebtoonColumn.values()[i].write(webtoon))
+                        .isEqualTo(converter.convert(webtoon, fields.get(i)));
+            }
+        }
+    }
+
+    @Test
+    void read() {
+        // given
+        List<Webtoon> webtoons = SyntheticLibrary.builder().size(1000).multiAuthorRatio(0.5).build().webtoons();
+
+        for (Webtoon expected : webtoons) {
+            // when
+            Webtoon actual = new Webtoon();
+            for (WebtoonColumn column : WebtoonColumn.values()) {
+                column.read(actual, column.write(expected));
+            }
+
+            // then
+            assertThat(actual).isEqualTo(expected);
+            assertThat(actual.isCompleted()).isEqualTo(expected.isCompleted());
+            assertThat(actual.getCreationTime()).isEqualTo(expected.getCreationTime().withNano(0));
+            assertThat(actual.getSize()).isEqualTo(expected.getSize());
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.github.imsejin.wnliext.excel;
+
+import com.github.javaxcel.factory.ExcelWriterFactory;
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.Cleanup;
+import lombok.SneakyThrows;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebtoonListReaderTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @SneakyThrows
+    void read(boolean streaming, @TempDir Path path) {
+        // given
+        List<Webtoon> webtoons = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 1000; i++) {
+            webtoons.add(Webtoon.builder().platform(Platform.values()[i % Platform.values().length])
+                    .title("제목 " + i).authors(i % 3 == 0 ? Arrays.asList("작가" + i) : Arrays.asList("작가" + i, "author"))
+                    .completed(i % 2 == 0).creationTime(now.minusHours(i)).size(i * 1024L).build());
+        }
+
+        File file = new File(path.toFile(), "webtoonList.xlsx");
+        @Cleanup Workbook workbook = streaming ? new SXSSFWorkbook() : new XSSFWorkbook();
+        @Cleanup FileOutputStream out = new FileOutputStream(file);
+        ExcelWriterFactory.create(workbook, Webtoon.class).sheetName("Webtoons").write(out, webtoons);
+
+        // when
+        List<Webtoon> actual = new ArrayList<>();
+        WebtoonListReader.read(file, actual::add);
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(webtoons);
+        for (int i = 0; i < webtoons.size(); i++) {
+            assertThat(actual.get(i).getAuthors()).isEqualTo(webtoons.get(i).getAuthors());
+            assertThat(actual.get(i).getCreationTime()).isEqualTo(webtoons.get(i).getCreationTime());
+        }
+    }
+
+}
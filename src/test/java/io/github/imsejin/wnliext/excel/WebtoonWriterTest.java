@@ -0,0 +1,180 @@
+package io.github.imsejin.wnliext.excel;
+
+import io.github.imsejin.wnliext.file.SyntheticLibrary;
+import io.github.imsejin.wnliext.file.model.ArchiveStatistics;
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.Cleanup;
+import lombok.SneakyThrows;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class WebtoonWriterTest {
+
+    @Test
+    void displayWidth() {
+        assertThat(WebtoonWriter.displayWidth("")).isZero();
+        assertThat(WebtoonWriter.displayWidth("Naver")).isEqualTo(5);
+        assertThat(WebtoonWriter.displayWidth("신의 탑")).isEqualTo(7);
+        assertThat(WebtoonWriter.displayWidth("ワンピース")).isEqualTo(10);
+        assertThat(WebtoonWriter.displayWidth("鬼滅の刃")).isEqualTo(8);
+        assertThat(WebtoonWriter.displayWidth("ＡＢＣ")).isEqualTo(6);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @SneakyThrows
+    void write(boolean streaming, @TempDir Path path) {
+        // given
+        List<Webtoon> webtoons = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 1000; i++) {
+            String title = i == 500 ? "아주 아주 아주 긴 제목을 가진 웹툰" : "제목 " + i;
+            webtoons.add(Webtoon.builder().platform(Platform.values()[i % Platform.values().length])
+                    .title(title).authors(Arrays.asList("작가" + i, "author"))
+                    .completed(i % 2 == 0).creationTime(now.minusHours(i)).size(i * 1024L).build());
+        }
+
+        File file = new File(path.toFile(), "webtoonList.xlsx");
+        @Cleanup Workbook workbook = streaming ? new SXSSFWorkbook() : new XSSFWorkbook();
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            new WebtoonWriter<>(workbook).estimateColumnWidths().hideExtraColumns()
+                    .sheetName("Webtoons").unrotate().write(out, webtoons);
+        }
+
+        // when
+        @Cleanup XSSFWorkbook actual = new XSSFWorkbook(file);
+        Sheet sheet = actual.getSheetAt(0);
+
+        // then
+        assertThat(sheet.getLastRowNum()).isEqualTo(webtoons.size());
+        // "아주 아주 아주 긴 제목을 가진 웹툰" is the widest title.
+        assertThat(sheet.getColumnWidth(WebtoonColumn.TITLE.ordinal())).isEqualTo((34 + 2) * 256);
+        // "IMPORTATION_DATE" in header is wider than "yyyy-MM-dd HH:mm:ss".
+        assertThat(sheet.getColumnWidth(WebtoonColumn.IMPORTATION_DATE.ordinal())).isEqualTo((21 + 2) * 256);
+        for (WebtoonColumn column : WebtoonColumn.values()) {
+            assertThat(sheet.isColumnHidden(column.ordinal())).isFalse();
+        }
+        assertThat(sheet.isColumnHidden(WebtoonColumn.values().length)).isTrue();
+        assertThat(sheet.isColumnHidden(16383)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @SneakyThrows
+    void writeStatistics(boolean streaming, @TempDir Path path) {
+        // given
+        List<Webtoon> webtoons = SyntheticLibrary.builder().size(100).build().webtoons();
+        webtoons.get(0).setStatistics(new ArchiveStatistics(12, 345, 1_234_567, 1_200_000));
+
+        File file = new File(path.toFile(), "webtoonList.xlsx");
+        @Cleanup Workbook workbook = streaming ? new SXSSFWorkbook(10) : new XSSFWorkbook();
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            new WebtoonWriter<>(workbook).statistics().estimateColumnWidths().hideExtraColumns()
+                    .sheetName("Webtoons").unrotate().write(out, webtoons);
+        }
+
+        // when
+        @Cleanup XSSFWorkbook actual = new XSSFWorkbook(file);
+        Sheet sheet = actual.getSheetAt(0);
+        List<Webtoon> read = new ArrayList<>();
+        WebtoonListReader.read(file, read::add);
+
+        // then
+        int offset = WebtoonColumn.values().length;
+        for (StatisticsColumn column : StatisticsColumn.values()) {
+            int index = offset + column.ordinal();
+            assertThat(sheet.getRow(0).getCell(index).getStringCellValue()).isEqualTo(column.getHeaderName());
+            assertThat(sheet.getRow(2).getCell(index).getStringCellValue()).isEqualTo(StatisticsColumn.NOT_AVAILABLE);
+            assertThat(sheet.isColumnHidden(index)).isFalse();
+        }
+        assertThat(sheet.getRow(1).getCell(offset + StatisticsColumn.EPISODES.ordinal()).getStringCellValue())
+                .isEqualTo("12");
+        assertThat(sheet.getRow(1).getCell(offset + StatisticsColumn.UNCOMPRESSED_SIZE.ordinal()).getStringCellValue())
+                .isEqualTo("1,234,567");
+        assertThat(sheet.getRow(1).getCell(offset + StatisticsColumn.COMPRESSION_RATIO.ordinal()).getStringCellValue())
+                .isEqualTo("97.2%");
+        assertThat(sheet.isColumnHidden(offset + StatisticsColumn.values().length)).isTrue();
+        // Statistics columns are not read.
+        assertThat(read).containsExactlyElementsOf(webtoons);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @SneakyThrows
+    void writeSheetPerPlatform(boolean streaming, @TempDir Path path) {
+        // given
+        List<Webtoon> webtoons = SyntheticLibrary.builder().size(5000).build().webtoons();
+        Map<String, List<String>> titles = webtoons.stream().collect(groupingBy(
+                it -> it.getPlatform().getCodeName(), LinkedHashMap::new, mapping(Webtoon::getTitle, toList())));
+
+        File file = new File(path.toFile(), "webtoonList.xlsx");
+        @Cleanup Workbook workbook = streaming ? new SXSSFWorkbook(10) : new XSSFWorkbook();
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            new WebtoonWriter<>(workbook).sheetPerPlatform(4).estimateColumnWidths().hideExtraColumns()
+                    .sheetName("All").unrotate().write(out, webtoons);
+        }
+
+        // when
+        @Cleanup XSSFWorkbook actual = new XSSFWorkbook(file);
+        List<Webtoon> read = new ArrayList<>();
+        WebtoonListReader.read(file, read::add);
+
+        // then
+        assertThat(actual.getNumberOfSheets()).isEqualTo(titles.size() + 1);
+        assertThat(actual.getSheetAt(0).getSheetName()).isEqualTo("All");
+        assertThat(actual.getSheetAt(0).getLastRowNum()).isEqualTo(webtoons.size());
+        for (int i = 1; i < actual.getNumberOfSheets(); i++) {
+            Sheet sheet = actual.getSheetAt(i);
+            List<String> expected = titles.get(sheet.getSheetName());
+            assertThat(expected).as("sheet '%s'", sheet.getSheetName()).isNotNull();
+
+            assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo(WebtoonColumn.PLATFORM.getHeaderName());
+            List<String> actualTitles = new ArrayList<>();
+            for (int j = 1; j <= sheet.getLastRowNum(); j++) {
+                assertThat(sheet.getRow(j).getCell(0).getStringCellValue()).isEqualTo(sheet.getSheetName());
+                actualTitles.add(sheet.getRow(j).getCell(WebtoonColumn.TITLE.ordinal()).getStringCellValue());
+            }
+            assertThat(actualTitles).containsExactlyElementsOf(expected);
+            assertThat(sheet.isColumnHidden(WebtoonColumn.values().length)).isTrue();
+        }
+        // Sheets per platform are not read twice.
+        assertThat(read).containsExactlyElementsOf(webtoons);
+    }
+
+    @Test
+    @SneakyThrows
+    void writeSheetPerPlatformWithRotation() {
+        // given
+        @Cleanup Workbook workbook = new XSSFWorkbook();
+        WebtoonWriter<Workbook> writer = new WebtoonWriter<>(workbook).sheetPerPlatform(2);
+        List<Webtoon> webtoons = SyntheticLibrary.builder().size(10).build().webtoons();
+
+        // expect
+        assertThatIllegalStateException().isThrownBy(() -> writer.write(OutputStream.nullOutputStream(), webtoons));
+    }
+
+}
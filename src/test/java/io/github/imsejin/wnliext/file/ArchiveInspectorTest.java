@@ -0,0 +1,74 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.file.model.ArchiveStatistics;
+import io.github.imsejin.wnliext.file.model.ScannedFile;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchiveInspectorTest {
+
+    @Test
+    @SneakyThrows
+    void isZip(@TempDir Path path) {
+        // given
+        Path zip = Files.createFile(path.resolve("[N] 신의 탑.ZIP"));
+        Path text = Files.createFile(path.resolve("info.txt"));
+        Path dir = Files.createDirectory(path.resolve("dir.zip"));
+
+        // expect
+        assertThat(ArchiveInspector.isZip(new ScannedFile(zip, Files.readAttributes(zip, BasicFileAttributes.class)))).isTrue();
+        assertThat(ArchiveInspector.isZip(new ScannedFile(text, Files.readAttributes(text, BasicFileAttributes.class)))).isFalse();
+        assertThat(ArchiveInspector.isZip(new ScannedFile(dir, Files.readAttributes(dir, BasicFileAttributes.class)))).isFalse();
+        assertThat(ArchiveInspector.isZip(null)).isFalse();
+    }
+
+    @Test
+    @SneakyThrows
+    void getStatistics(@TempDir Path path) {
+        // given
+        Path zipPath = path.resolve("archive.zip");
+        Random random = new Random(42);
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipPath), Charset.forName("CP949"))) {
+            for (String name : Arrays.asList("001화/01.jpg", "001화/02.PNG", "002화/", "002화/01.webp", "cover.jpg", "info.txt")) {
+                out.putNextEntry(new ZipEntry(name));
+                if (name.endsWith("/")) continue;
+
+                byte[] data = new byte[100 + random.nextInt(1000)];
+                random.nextBytes(data);
+                out.write(data);
+            }
+        }
+        long uncompressedSize;
+        long compressedSize;
+        try (ZipFile zip = new ZipFile(zipPath.toFile(), Charset.forName("CP949"))) {
+            uncompressedSize = zip.stream().filter(it -> !it.isDirectory()).mapToLong(ZipEntry::getSize).sum();
+            compressedSize = zip.stream().filter(it -> !it.isDirectory()).mapToLong(ZipEntry::getCompressedSize).sum();
+        }
+
+        // when
+        ArchiveStatistics statistics = ArchiveInspector.getStatistics(zipPath.toFile());
+
+        // then
+        assertThat(statistics.getEpisodes()).isEqualTo(2);
+        assertThat(statistics.getImages()).isEqualTo(4);
+        assertThat(statistics.getUncompressedSize()).isEqualTo(uncompressedSize);
+        assertThat(statistics.getCompressedSize()).isEqualTo(compressedSize);
+        assertThat(statistics.getCompressionRatio()).isEqualTo((double) compressedSize / uncompressedSize);
+        assertThat(ArchiveInspector.getStatistics(Files.write(path.resolve("invalid.zip"), new byte[10]).toFile())).isNull();
+        assertThat(ArchiveInspector.getStatistics(Files.createFile(path.resolve("archive.rar")).toFile())).isNull();
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.common.ApplicationOptions;
+import io.github.imsejin.wnliext.file.model.ScannedFile;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DirectoryWalkerTest {
+
+    @SneakyThrows
+    private static void createLibrary(Path root) {
+        // root/N_title-0 ~ 9, root/a/N_title-10 ~ 19, root/a/b/N_title-20 ~ 29, root/skip/N_title-30 ~ 39
+        Path[] dirs = {root, root.resolve("a"), root.resolve("a").resolve("b"), root.resolve("skip")};
+        for (int d = 0; d < dirs.length; d++) {
+            Files.createDirectories(dirs[d]);
+            for (int i = 0; i < 10; i++) {
+                int n = d * 10 + i;
+                Files.write(dirs[d].resolve(String.format("N_title-%d - author-%d.zip", n, n)), new byte[n]);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4})
+    @DisplayName("Walk directories recursively with the depth")
+    void walk(int parallelism, @TempDir Path path) {
+        // given
+        createLibrary(path);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        // when
+        List<ScannedFile> shallow = new DirectoryWalker(1, true, Collections.emptyList())
+                .walk(Collections.singletonList(path), pool);
+        List<ScannedFile> deep = new DirectoryWalker(Integer.MAX_VALUE, true, Collections.emptyList())
+                .walk(Collections.singletonList(path), pool);
+        List<ScannedFile> excluded = new DirectoryWalker(Integer.MAX_VALUE, true, Arrays.asList("skip", "**/b"))
+                .walk(Collections.singletonList(path), pool);
+        pool.shutdown();
+
+        // then
+        ApplicationOptions options = ApplicationOptions.builder().pathname(path.toString()).build();
+        assertThat(FileService.convertScanned(shallow, null, options)).hasSize(10);
+        assertThat(FileService.convertScanned(deep, null, options)).hasSize(40);
+        assertThat(FileService.convertScanned(excluded, null, options)).hasSize(20)
+                .extracting(Webtoon::getTitle)
+                .allMatch(it -> Integer.parseInt(it.substring("title-".length())) < 20);
+        assertThat(deep.stream().map(ScannedFile::getPath).collect(toList()))
+                .doesNotHaveDuplicates()
+                .containsAll(shallow.stream().map(ScannedFile::getPath).collect(toList()));
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Merge webtoons in multiple roots and skip a cycle of symbolic links")
+    void walkMultipleRoots(@TempDir Path path) {
+        // given
+        Path first = path.resolve("first");
+        Path second = path.resolve("second");
+        createLibrary(first);
+        createLibrary(second);
+        Files.createSymbolicLink(first.resolve("a").resolve("loop"), first);
+
+        // when
+        ForkJoinPool pool = new ForkJoinPool(2);
+        List<ScannedFile> files = new DirectoryWalker(Integer.MAX_VALUE, true, Collections.emptyList())
+                .walk(Arrays.asList(first, second), pool);
+        ApplicationOptions options = ApplicationOptions.builder().pathname(path.toString()).build();
+        List<Webtoon> webtoons = FileService.convertScannedInParallel(files, pool, null, options);
+        pool.shutdown();
+
+        // then
+        assertThat(webtoons)
+                .hasSize(40)
+                .isEqualTo(FileService.convertScanned(files, null, options));
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.common.ApplicationOptions;
+import io.github.imsejin.wnliext.common.util.ZipUtils;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Benchmarks of converting webtoon files into webtoons.
+ *
+ * <p> Each operation processes the whole corpus of the size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FileServiceBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private Path dir;
+
+    private List<String> names;
+
+    private List<File> files;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        SyntheticLibrary library = SyntheticLibrary.builder().size(this.size).build();
+        this.names = library.filenames().stream()
+                .map(it -> it.substring(0, it.lastIndexOf('.')))
+                .collect(toList());
+        this.dir = library.generate(Files.createTempDirectory("wnliext-benchmark"));
+        this.files = FileService.getFiles(this.dir.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SyntheticLibrary.delete(this.dir);
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        for (String name : this.names) {
+            blackhole.consume(WebtoonFilenameParser.parse(name));
+        }
+    }
+
+    @Benchmark
+    public void from(Blackhole blackhole) {
+        for (File file : this.files) {
+            blackhole.consume(Webtoon.from(file));
+        }
+    }
+
+    @Benchmark
+    public void isZip(Blackhole blackhole) {
+        for (File file : this.files) {
+            blackhole.consume(ZipUtils.isZip(file));
+        }
+    }
+
+    @Benchmark
+    public List<Webtoon> convert() {
+        return FileService.convert(FileService.getFiles(this.dir.toString()));
+    }
+
+    @Benchmark
+    public List<Webtoon> convertScanned() {
+        return FileService.convertScanned(FileService.scanFiles(this.dir.toString()), null,
+                ApplicationOptions.builder().pathname(this.dir.toString()).build());
+    }
+
+}
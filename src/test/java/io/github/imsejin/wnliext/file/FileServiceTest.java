@@ -1,13 +1,22 @@
 package io.github.imsejin.wnliext.file;
 
 import io.github.imsejin.common.util.StringUtils;
+import io.github.imsejin.wnliext.common.ApplicationOptions;
 import io.github.imsejin.wnliext.file.constant.Delimiter;
 import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.ScannedFile;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.regex.Pattern;
 
@@ -47,18 +56,19 @@ class FileServiceTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"C:/usr/local", "C:/data/log", "D:/Cartoons/Webtoons"})
+    @ValueSource(ints = {0, 10, 1000})
     @DisplayName("Get files")
-    void getFiles(String pathname) {
+    void getFiles(int size, @TempDir Path path) {
         // given
-        File dir = new File(pathname);
+        File dir = SyntheticLibrary.builder().size(size).build().generate(path).toFile();
 
         // when
         File[] list = dir.listFiles();
         List<File> files = list == null ? new ArrayList<>() : Arrays.asList(list);
 
         // then
-        assertThat(files).isNotNull();
+        assertThat(files).hasSize(size);
+        assertThat(FileService.getFiles(dir.getPath())).hasSize(size);
     }
 
     @ParameterizedTest
@@ -103,4 +113,64 @@ class FileServiceTest {
                 .isEqualTo(map.get("completed"));
     }
 
+    @Test
+    @SneakyThrows
+    @DisplayName("Scan files with their attributes")
+    void scanFiles(@TempDir Path path) {
+        // given
+        for (String filename : Arrays.asList("N_팀 피닉스 - 엄재경, Ze-yAv [完].zip",
+                "NT_일단 뜨겁게 청소하라？! - 앵고.zip", "ST_총수 - 최종편 - 정기영, 백승훈 [完].zip", "readme.txt")) {
+            Files.write(path.resolve(filename), filename.getBytes(StandardCharsets.UTF_8));
+        }
+        Files.createDirectory(path.resolve("D_directory - author.zip"));
+
+        ApplicationOptions options = ApplicationOptions.builder().pathname(path.toString()).build();
+
+        // when
+        List<ScannedFile> files = FileService.scanFiles(path.toString());
+        List<Webtoon> webtoons = FileService.convertScanned(files, null, options);
+
+        // then
+        assertThat(files).hasSize(5);
+        assertThat(webtoons)
+                .hasSize(3)
+                .isEqualTo(FileService.convert(FileService.getFiles(path.toString())));
+        for (Webtoon webtoon : webtoons) {
+            Webtoon expected = Webtoon.from(path.resolve(webtoon.getPlatform().getCode() + '_' + webtoon.getTitle()
+                    + " - " + String.join(", ", webtoon.getAuthors()) + (webtoon.isCompleted() ? " [完]" : "") + ".zip").toFile());
+            assertThat(webtoon.getSize()).isEqualTo(expected.getSize());
+            assertThat(webtoon.getCreationTime()).isEqualTo(expected.getCreationTime());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4, 8})
+    @SneakyThrows
+    @DisplayName("Convert files in parallel as sequential conversion does")
+    void convertInParallel(int parallelism, @TempDir Path path) {
+        // given
+        List<Platform> platforms = Arrays.asList(Platform.values());
+        for (int i = 0; i < 1000; i++) {
+            Platform platform = platforms.get(i % platforms.size());
+            // Duplicated webtoons have different extension and size.
+            String filename = String.format("%s_title-%d - author-%d, author%s.%s",
+                    platform.getCode(), i % 700, i % 3, i % 5 == 0 ? " [完]" : "", i < 700 ? "zip" : "rar");
+            Files.write(path.resolve(filename), new byte[i]);
+        }
+
+        ApplicationOptions options = ApplicationOptions.builder().pathname(path.toString()).parallelism(parallelism).build();
+
+        // when
+        List<Webtoon> sequential = FileService.convertScanned(FileService.scanFiles(path.toString()), null, options);
+        List<Webtoon> parallel = FileService.convertInParallel(FileService.listFiles(path.toString()), null, options);
+
+        // then
+        assertThat(parallel)
+                .hasSameSizeAs(sequential)
+                .containsExactlyElementsOf(sequential);
+        for (int i = 0; i < sequential.size(); i++) {
+            assertThat(parallel.get(i).getSize()).isEqualTo(sequential.get(i).getSize());
+        }
+    }
+
 }
@@ -0,0 +1,105 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.common.ApplicationOptions;
+import io.github.imsejin.wnliext.file.model.ScannedFile;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScanCacheTest {
+
+    @Test
+    @SneakyThrows
+    void reuseUnchangedFiles(@TempDir Path path) {
+        // given
+        for (int i = 0; i < 10; i++) {
+            Files.write(path.resolve(String.format("N_title-%d - author-%d, author.zip", i, i)), new byte[i]);
+        }
+        String pathname = path.toString();
+        ApplicationOptions options = ApplicationOptions.builder().pathname(pathname).build();
+        ScanCache cache = ScanCache.load(pathname);
+        List<Webtoon> webtoons = FileService.convertScanned(FileService.scanFiles(pathname), cache, options);
+        cache.save();
+
+        // when
+        Path changed = path.resolve("N_title-0 - author-0, author.zip");
+        Files.write(changed, new byte[100]);
+        Files.delete(path.resolve("N_title-1 - author-1, author.zip"));
+        ScanCache reloaded = ScanCache.load(pathname);
+        List<ScannedFile> files = FileService.scanFiles(pathname);
+
+        // then
+        assertThat(Files.exists(path.resolve(ScanCache.FILENAME))).isTrue();
+        for (ScannedFile file : files) {
+            Webtoon cached = reloaded.get(file);
+            if (file.getPath().equals(changed) || file.getPath().getFileName().toString().equals(ScanCache.FILENAME)) {
+                assertThat(cached).isNull();
+                continue;
+            }
+
+            Webtoon expected = Webtoon.from(file);
+            assertThat(cached).isEqualTo(expected);
+            assertThat(cached.isCompleted()).isEqualTo(expected.isCompleted());
+            assertThat(cached.getCreationTime()).isEqualTo(expected.getCreationTime());
+            assertThat(cached.getSize()).isEqualTo(expected.getSize());
+        }
+        assertThat(webtoons).hasSize(10);
+        assertThat(FileService.convertScanned(files, reloaded, options))
+                .containsExactlyElementsOf(FileService.convertScanned(files, null, options));
+    }
+
+    @Test
+    @SneakyThrows
+    void keepStatistics(@TempDir Path path) {
+        // given
+        SyntheticLibrary.builder().size(20).content(SyntheticLibrary.Content.ZIP).build().generate(path);
+        String pathname = path.toString();
+        ApplicationOptions options = ApplicationOptions.builder().pathname(pathname).statistics(true).build();
+        ScanCache cache = ScanCache.load(pathname);
+        List<Webtoon> webtoons = FileService.convertScanned(FileService.scanFiles(pathname), cache, options);
+        cache.save();
+
+        // when
+        ScanCache reloaded = ScanCache.load(pathname);
+        List<ScannedFile> files = FileService.scanFiles(pathname);
+
+        // then
+        for (ScannedFile file : files) {
+            if (file.getPath().getFileName().toString().equals(ScanCache.FILENAME)) continue;
+
+            Webtoon cached = reloaded.get(file);
+            assertThat(cached.getStatistics()).isNotNull()
+                    .isEqualTo(ArchiveInspector.getStatistics(file.getPath().toFile()));
+            assertThat(cached.getStatistics().getImages()).isPositive();
+        }
+        assertThat(webtoons).extracting(Webtoon::getStatistics).doesNotContainNull();
+        // Statistics are not read unless they are required.
+        assertThat(FileService.convertScanned(files, null, options.toBuilder().statistics(false).build()))
+                .extracting(Webtoon::getStatistics).containsOnlyNulls();
+    }
+
+    @Test
+    @SneakyThrows
+    void ignoreCorruptedCache(@TempDir Path path) {
+        // given
+        Files.write(path.resolve(ScanCache.FILENAME), new byte[]{0x57, 0x4C, 0x45});
+        Files.write(path.resolve("N_title - author.zip"), new byte[0]);
+
+        // when
+        ScanCache cache = ScanCache.load(path.toString());
+        List<ScannedFile> files = FileService.scanFiles(path.toString());
+
+        // then
+        for (ScannedFile file : files) {
+            assertThat(cache.get(file)).isNull();
+        }
+    }
+
+}
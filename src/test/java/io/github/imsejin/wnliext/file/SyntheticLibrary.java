@@ -0,0 +1,245 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static io.github.imsejin.wnliext.file.constant.Delimiter.AUTHOR;
+import static io.github.imsejin.wnliext.file.constant.Delimiter.COMPLETED;
+import static io.github.imsejin.wnliext.file.constant.Delimiter.PLATFORM;
+import static io.github.imsejin.wnliext.file.constant.Delimiter.TITLE;
+
+/**
+ * Synthetic library
+ *
+ * <p> Generates webtoon files whose names follow the grammar of {@link io.github.imsejin.wnliext.file.constant.Delimiter},
+ * so that tests and benchmarks run without a real library. The same settings always generate the same library.
+ *
+ * <pre>
+ * SyntheticLibrary library = SyntheticLibrary.builder().size(10_000).duplicateRatio(0.1).build();
+ * library.generate(Files.createTempDirectory("library"));
+ * </pre>
+ *
+ * <p> It can be generated from command line as well.
+ *
+ * <pre>
+ * java -cp ... io.github.imsejin.wnliext.file.SyntheticLibrary [directory] [size] [EMPTY|SPARSE|ZIP]
+ * </pre>
+ */
+@Getter
+@Builder
+public final class SyntheticLibrary {
+
+    /**
+     * Number of webtoon files, which includes duplicates.
+     */
+    @Builder.Default
+    private final int size = 1000;
+
+    @Builder.Default
+    private final long seed = 20201010L;
+
+    /**
+     * Relative weights of platforms. If it is empty, all platforms are equally weighted.
+     */
+    @Builder.Default
+    private final Map<Platform, Integer> platformWeights = Collections.emptyMap();
+
+    /**
+     * Ratio of webtoons which have multiple authors.
+     */
+    @Builder.Default
+    private final double multiAuthorRatio = 0.25;
+
+    /**
+     * Ratio of webtoons which are completed.
+     */
+    @Builder.Default
+    private final double completedRatio = 0.33;
+
+    /**
+     * Ratio of files which duplicate a webtoon with the other extension.
+     */
+    @Builder.Default
+    private final double duplicateRatio = 0;
+
+    @Builder.Default
+    private final Content content = Content.EMPTY;
+
+    /**
+     * Returns filenames of webtoon files with their extension.
+     */
+    public List<String> filenames() {
+        Random random = new Random(this.seed);
+        List<Platform> platforms = weightedPlatforms();
+
+        List<String> filenames = new ArrayList<>(this.size);
+        List<String> baseNames = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            // Duplicate has the same name as one of the previous webtoons, which is duplicated only once.
+            if (!baseNames.isEmpty() && random.nextDouble() < this.duplicateRatio) {
+                int j = random.nextInt(baseNames.size());
+                filenames.add(baseNames.get(j) + ".rar");
+                baseNames.set(j, baseNames.get(baseNames.size() - 1));
+                baseNames.remove(baseNames.size() - 1);
+                continue;
+            }
+
+            Platform platform = platforms.get(random.nextInt(platforms.size()));
+            // Some titles contain the delimiter of title.
+            String title = i % 10 == 0 ? "제목 " + i + TITLE + "외전" : "제목 " + i;
+            String authors = random.nextDouble() < this.multiAuthorRatio
+                    ? "작가 " + i % 1000 + AUTHOR + "author-" + random.nextInt(100)
+                    : "작가 " + i % 1000;
+            String completed = random.nextDouble() < this.completedRatio ? COMPLETED.getValue() : "";
+
+            String baseName = platform.getCode() + PLATFORM + title + TITLE + authors + completed;
+            baseNames.add(baseName);
+            filenames.add(baseName + ".zip");
+        }
+
+        return filenames;
+    }
+
+    /**
+     * Returns webtoons converted from the files, without duplicates.
+     * Creation time and size are not of the generated files, but deterministic.
+     */
+    public List<Webtoon> webtoons() {
+        LocalDateTime base = LocalDateTime.of(2020, 10, 10, 12, 0);
+
+        List<Webtoon> webtoons = new ArrayList<>(this.size);
+        for (String filename : filenames()) {
+            if (!filename.endsWith(".zip")) continue;
+
+            Webtoon webtoon = WebtoonFilenameParser.parse(filename.substring(0, filename.length() - ".zip".length()));
+            webtoon.setCreationTime(base.minusHours(webtoons.size() % 10_000));
+            webtoon.setSize(webtoons.size() * 1024L);
+            webtoons.add(webtoon);
+        }
+
+        return webtoons;
+    }
+
+    /**
+     * Generates webtoon files in the directory.
+     *
+     * @param dir directory
+     * @return the directory
+     */
+    @SneakyThrows
+    public Path generate(Path dir) {
+        Files.createDirectories(dir);
+
+        Random random = new Random(this.seed);
+        for (String filename : filenames()) {
+            this.content.write(dir.resolve(filename), random);
+        }
+
+        return dir;
+    }
+
+    /**
+     * Deletes the directory and files in it.
+     */
+    @SneakyThrows
+    public static void delete(Path dir) {
+        if (!Files.exists(dir)) return;
+
+        try (Stream<Path> stream = Files.walk(dir)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(it -> it.toFile().delete());
+        }
+    }
+
+    private List<Platform> weightedPlatforms() {
+        Map<Platform, Integer> weights = new EnumMap<>(Platform.class);
+        for (Platform platform : Platform.values()) {
+            weights.put(platform, this.platformWeights.isEmpty() ? 1 : this.platformWeights.getOrDefault(platform, 0));
+        }
+
+        List<Platform> platforms = new ArrayList<>();
+        weights.forEach((platform, weight) -> platforms.addAll(Collections.nCopies(weight, platform)));
+        if (platforms.isEmpty()) throw new IllegalArgumentException("At least one platform must have positive weight");
+
+        return platforms;
+    }
+
+    public static void main(String[] args) {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "synthetic-library");
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        Content content = args.length > 2 ? Content.valueOf(args[2]) : Content.EMPTY;
+
+        builder().size(size).content(content).duplicateRatio(0.05).build().generate(dir);
+        System.out.printf("Generated %,d webtoon files in '%s'%n", size, dir.toAbsolutePath());
+    }
+
+    /**
+     * Content of webtoon files.
+     */
+    public enum Content {
+        /**
+         * Empty file.
+         */
+        EMPTY {
+            @Override
+            void write(Path path, Random random) throws Exception {
+                Files.createFile(path);
+            }
+        },
+
+        /**
+         * Sparse file whose size is up to 64 MB, which doesn't occupy the disk.
+         */
+        SPARSE {
+            @Override
+            void write(Path path, Random random) throws Exception {
+                try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+                    file.setLength(1 + random.nextInt(64 * 1024 * 1024));
+                }
+            }
+        },
+
+        /**
+         * Real zip file which has a few small images.
+         */
+        ZIP {
+            @Override
+            void write(Path path, Random random) throws Exception {
+                try (OutputStream out = Files.newOutputStream(path);
+                     ZipOutputStream zip = new ZipOutputStream(out)) {
+                    int count = 1 + random.nextInt(5);
+                    for (int i = 1; i <= count; i++) {
+                        byte[] image = new byte[256 + random.nextInt(1024)];
+                        random.nextBytes(image);
+
+                        zip.putNextEntry(new ZipEntry(String.format("%03d.jpg", i)));
+                        zip.write(image);
+                        zip.closeEntry();
+                    }
+                }
+            }
+        };
+
+        abstract void write(Path path, Random random) throws Exception;
+    }
+
+}
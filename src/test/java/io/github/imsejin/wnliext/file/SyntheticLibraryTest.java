@@ -0,0 +1,56 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.common.util.ZipUtils;
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticLibraryTest {
+
+    @ParameterizedTest
+    @EnumSource(SyntheticLibrary.Content.class)
+    @DisplayName("Generate the same library with the settings")
+    void generate(SyntheticLibrary.Content content, @TempDir Path path) {
+        // given
+        SyntheticLibrary library = SyntheticLibrary.builder().size(500).duplicateRatio(0.2).completedRatio(0.5)
+                .platformWeights(Collections.singletonMap(Platform.NAVER, 1)).content(content).build();
+
+        // when
+        Path dir = library.generate(path);
+        List<Webtoon> webtoons = FileService.convert(FileService.getFiles(dir.toString()));
+
+        // then
+        assertThat(library.filenames())
+                .hasSize(500)
+                .doesNotHaveDuplicates()
+                .isEqualTo(SyntheticLibrary.builder().size(500).duplicateRatio(0.2).completedRatio(0.5)
+                        .platformWeights(Collections.singletonMap(Platform.NAVER, 1)).build().filenames());
+        assertThat(webtoons)
+                .hasSameSizeAs(library.webtoons())
+                .hasSizeLessThan(500)
+                .containsExactlyInAnyOrderElementsOf(library.webtoons())
+                .allMatch(it -> it.getPlatform() == Platform.NAVER)
+                .anyMatch(Webtoon::isCompleted)
+                .anyMatch(it -> it.getAuthors().size() > 1)
+                .anyMatch(it -> it.getTitle().contains(" - "));
+        for (File file : FileService.getFiles(dir.toString())) {
+            assertThat(ZipUtils.isZip(file)).isTrue();
+            if (content == SyntheticLibrary.Content.EMPTY) assertThat(file.length()).isZero();
+            else assertThat(file.length()).isPositive();
+        }
+        if (content == SyntheticLibrary.Content.ZIP) {
+            assertThat(ZipUtils.getEntryNames(dir.resolve(library.filenames().get(0)).toFile())).isNotEmpty();
+        }
+    }
+
+}
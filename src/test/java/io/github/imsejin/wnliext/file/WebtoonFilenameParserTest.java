@@ -0,0 +1,58 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.common.util.StringUtils;
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static io.github.imsejin.wnliext.file.constant.Delimiter.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class WebtoonFilenameParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "NT_일단 뜨겁게 청소하라？! - 앵고",
+            "ST_총수 - 최종편 - 정기영, 백승훈 [完]",
+            "N_팀 피닉스 - 엄재경, Ze-yAv [完]",
+            "K_나 혼자만 레벨업 - 현군, 추공, 장성락",
+            "D_title - author - ",
+            "L_title - a, , b, ",
+            "TM_title - a, [完]",
+            "CO_title - author_name",
+    })
+    @DisplayName("Parses filename as the regular expression does")
+    void parse(String filename) {
+        // when
+        Webtoon webtoon = WebtoonFilenameParser.parse(filename);
+
+        // then
+        boolean completed = filename.endsWith(COMPLETED.getValue());
+        String regex = completed
+                ? String.format("^(.+)%s(.+)%s(.+).{%d}?$", PLATFORM, TITLE, COMPLETED.getValue().length())
+                : String.format("^(.+)%s(.+)%s(.+)$", PLATFORM, TITLE);
+        Map<Integer, String> match = StringUtils.find(filename, regex, Pattern.MULTILINE, 1, 2, 3);
+        List<String> authors = Arrays.asList(match.get(3).split(AUTHOR.getValue()));
+
+        assertThat(webtoon.getPlatform()).as("#1 platform").isEqualTo(Platform.fromCode(match.get(1)));
+        assertThat(webtoon.getTitle()).as("#2 title").isEqualTo(match.get(2));
+        assertThat(webtoon.getAuthors()).as("#3 authors").isEqualTo(authors);
+        assertThat(webtoon.isCompleted()).as("#4 completed").isEqualTo(completed);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "N", "_title - author", "N_title", "N_ - author", "N_title - ", "N_title -  [完]", "X_title - author"})
+    @DisplayName("Fails to parse malformed filename")
+    void parseMalformed(String filename) {
+        assertThatIllegalArgumentException().isThrownBy(() -> WebtoonFilenameParser.parse(filename));
+    }
+
+}
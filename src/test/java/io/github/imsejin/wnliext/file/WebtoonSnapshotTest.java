@@ -0,0 +1,67 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.file.model.Platform;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebtoonSnapshotTest {
+
+    @Test
+    @SneakyThrows
+    void writeAndRead(@TempDir Path path) {
+        // given
+        File listFile = path.resolve("webtoonList-1.0.0-20201010123456.xlsx").toFile();
+        Files.write(listFile.toPath(), "workbook".getBytes(StandardCharsets.UTF_8));
+
+        List<Webtoon> webtoons = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 100; i++) {
+            webtoons.add(Webtoon.builder().platform(Platform.values()[i % Platform.values().length])
+                    .title("제목 " + i).authors(Arrays.asList("작가" + i, "author"))
+                    .completed(i % 2 == 0).creationTime(now.minusDays(i)).size(i * 1024L).build());
+        }
+
+        // when
+        WebtoonSnapshot.write(listFile, webtoons);
+        List<Webtoon> actual = WebtoonSnapshot.read(listFile);
+
+        // then
+        assertThat(WebtoonSnapshot.fileOf(listFile)).exists()
+                .hasName("webtoonList-1.0.0-20201010123456.snapshot");
+        assertThat(actual).containsExactlyElementsOf(webtoons);
+        for (int i = 0; i < webtoons.size(); i++) {
+            assertThat(actual.get(i).isCompleted()).isEqualTo(webtoons.get(i).isCompleted());
+            assertThat(actual.get(i).getCreationTime()).isEqualTo(webtoons.get(i).getCreationTime());
+            assertThat(actual.get(i).getSize()).isEqualTo(webtoons.get(i).getSize());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void ignoreSnapshotOfChangedList(@TempDir Path path) {
+        // given
+        File listFile = path.resolve("webtoonList-1.0.0-20201010123456.xlsx").toFile();
+        Files.write(listFile.toPath(), "workbook".getBytes(StandardCharsets.UTF_8));
+        WebtoonSnapshot.write(listFile, new ArrayList<>());
+
+        // when
+        Files.write(listFile.toPath(), "Workbook".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(WebtoonSnapshot.read(listFile)).isNull();
+    }
+
+}
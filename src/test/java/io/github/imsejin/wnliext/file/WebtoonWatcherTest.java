@@ -0,0 +1,142 @@
+package io.github.imsejin.wnliext.file;
+
+import io.github.imsejin.wnliext.common.ApplicationOptions;
+import io.github.imsejin.wnliext.file.model.Webtoon;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebtoonWatcherTest {
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Apply creation, deletion and renaming of files after the quiet period")
+    void watch(@TempDir Path path) {
+        // given
+        for (int i = 0; i < 5; i++) {
+            Files.write(path.resolve(String.format("N_title-%d - author.zip", i)), new byte[i]);
+        }
+        ApplicationOptions options = ApplicationOptions.builder()
+                .pathname(path.toString()).depth(2).quietPeriod(300).build();
+        BlockingQueue<List<Webtoon>> published = new LinkedBlockingQueue<>();
+        WebtoonWatcher watcher = new WebtoonWatcher(options);
+        Thread thread = new Thread(() -> watcher.run(published::add));
+        thread.start();
+
+        try {
+            List<Webtoon> initial = published.poll(10, TimeUnit.SECONDS);
+
+            // when
+            for (int i = 5; i < 25; i++) {
+                Files.write(path.resolve(String.format("N_title-%d - author.zip", i)), new byte[i]);
+            }
+            Files.write(path.resolve("webtoonList.xlsx"), new byte[1]);
+            List<Webtoon> created = published.poll(10, TimeUnit.SECONDS);
+
+            Files.delete(path.resolve("N_title-0 - author.zip"));
+            Files.move(path.resolve("N_title-1 - author.zip"), path.resolve("N_renamed - author [完].zip"));
+            List<Webtoon> deleted = published.poll(10, TimeUnit.SECONDS);
+
+            Path dir = Files.createDirectory(path.resolve("dir"));
+            Files.write(dir.resolve("N_nested - author.zip"), new byte[0]);
+            List<Webtoon> nested = published.poll(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(initial).hasSize(5);
+            assertThat(created).as("burst of events is published at once").hasSize(25);
+            assertThat(deleted).hasSize(24)
+                    .extracting(Webtoon::getTitle)
+                    .contains("renamed")
+                    .doesNotContain("title-0", "title-1");
+            assertThat(nested).hasSize(25)
+                    .extracting(Webtoon::getTitle)
+                    .contains("nested");
+            assertThat(published).isEmpty();
+        } finally {
+            watcher.close();
+            thread.join();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Retain the webtoon whose file has the first path of duplicated webtoons")
+    void retainFirstPathOfDuplicates(@TempDir Path path) {
+        // given
+        for (int i = 0; i < 20; i++) {
+            Files.write(path.resolve(String.format("N_title-%d - author.zip", i)), new byte[1]);
+            Files.write(path.resolve(String.format("N_title-%d - author.rar", i)), new byte[2]);
+        }
+        ApplicationOptions options = ApplicationOptions.builder()
+                .pathname(path.toString()).quietPeriod(300).build();
+        BlockingQueue<List<Webtoon>> published = new LinkedBlockingQueue<>();
+        WebtoonWatcher watcher = new WebtoonWatcher(options);
+        Thread thread = new Thread(() -> watcher.run(published::add));
+        thread.start();
+
+        try {
+            List<Webtoon> initial = published.poll(10, TimeUnit.SECONDS);
+
+            // when
+            Files.delete(path.resolve("N_title-0 - author.rar"));
+            List<Webtoon> deleted = published.poll(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(initial).hasSize(20)
+                    .extracting(Webtoon::getSize)
+                    .as("'.rar' precedes '.zip'")
+                    .containsOnly(2L);
+            assertThat(deleted).hasSize(20)
+                    .filteredOn(it -> it.getTitle().equals("title-0"))
+                    .extracting(Webtoon::getSize)
+                    .containsExactly(1L);
+        } finally {
+            watcher.close();
+            thread.join();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Remove webtoons in the directory moved out, but not in its siblings with similar names")
+    void moveDirectoryOut(@TempDir Path path) {
+        // given
+        Path root = Files.createDirectory(path.resolve("root"));
+        for (String dir : new String[]{"dir", "dir-2", "dir.d", "dir0"}) {
+            Files.createDirectory(root.resolve(dir));
+            Files.write(root.resolve(dir).resolve(String.format("N_%s - author.zip", dir)), new byte[1]);
+        }
+        ApplicationOptions options = ApplicationOptions.builder()
+                .pathname(root.toString()).depth(2).quietPeriod(300).build();
+        BlockingQueue<List<Webtoon>> published = new LinkedBlockingQueue<>();
+        WebtoonWatcher watcher = new WebtoonWatcher(options);
+        Thread thread = new Thread(() -> watcher.run(published::add));
+        thread.start();
+
+        try {
+            List<Webtoon> initial = published.poll(10, TimeUnit.SECONDS);
+
+            // when
+            Files.move(root.resolve("dir"), path.resolve("moved"));
+            List<Webtoon> moved = published.poll(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(initial).hasSize(4);
+            assertThat(moved).extracting(Webtoon::getTitle).containsExactlyInAnyOrder("dir-2", "dir.d", "dir0");
+        } finally {
+            watcher.close();
+            thread.join();
+        }
+    }
+
+}